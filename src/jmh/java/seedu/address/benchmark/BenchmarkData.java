@@ -0,0 +1,81 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDatetime;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.address.Address;
+import seedu.address.model.person.address.AddressType;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates address book data of any size for the benchmarks.
+ * The same index always generates the same person or appointment, so every run measures the same data.
+ */
+public class BenchmarkData {
+
+    private static final String[] STREETS = {"Clementi", "Tampines", "Bishan", "Serangoon", "Jurong", "Geylang"};
+    private static final String[] PROPERTY_TYPES = {"HDB_3", "HDB_4", "HDB_5", "CONDO_5", "EC", "LANDED_FH"};
+    private static final String[] TAGS = {"friends", "colleagues", "family", "neighbours", "investor", "urgent"};
+    private static final LocalDateTime FIRST_APPOINTMENT = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private BenchmarkData() {} // prevents instantiation
+
+    /**
+     * Returns the person with the given index, whose phone number is different from that of every other index.
+     */
+    public static Person getPerson(int index) {
+        String street = STREETS[index % STREETS.length];
+        return new Person(new Name("Client " + index), new Phone(String.valueOf(80000000 + index)),
+                new Email("client" + index + "@example.com"), Role.of(index % 2 == 0 ? Role.BUYER : Role.SELLER),
+                new Address("Blk " + index + " " + street + " Street " + index % 100,
+                        AddressType.of(PROPERTY_TYPES[index % PROPERTY_TYPES.length])),
+                index % 3 == 0
+                        ? Set.of()
+                        : Set.of(Tag.of(TAGS[index % TAGS.length]), Tag.of(TAGS[(index + 1) % TAGS.length])));
+    }
+
+    /**
+     * Returns {@code count} persons with distinct phone numbers.
+     */
+    public static List<Person> getPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(getPerson(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns {@code count} appointments between consecutive {@code persons}, fifteen minutes apart.
+     */
+    public static List<Appointment> getAppointments(List<Person> persons, int count) {
+        List<Appointment> appointments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            AppointmentDatetime datetime = new AppointmentDatetime(FIRST_APPOINTMENT.plusMinutes(15L * i).toString());
+            appointments.add(new Appointment(datetime, persons.get(i % persons.size()),
+                    persons.get((i + 1) % persons.size())));
+        }
+        return appointments;
+    }
+
+    /**
+     * Returns an address book with {@code personCount} persons and {@code appointmentCount} appointments between them.
+     */
+    public static AddressBook getAddressBook(int personCount, int appointmentCount) {
+        List<Person> persons = getPersons(personCount);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        addressBook.setAppointments(getAppointments(persons, appointmentCount));
+        return addressBook;
+    }
+}
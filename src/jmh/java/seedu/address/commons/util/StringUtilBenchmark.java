@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares {@link StringUtil#containsWordIgnoreCase(String, String)}, which scans the sentence in place, with the
+ * regex-splitting version it replaced. Run with {@code -prof gc} to compare the bytes allocated per call as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringUtilBenchmark {
+
+    private static final String SENTENCE = "Blk 436 Serangoon Gardens Street 26, #16-43 Charlotte Oliveiro";
+
+    @Param({"charlotte", "street", "missing"})
+    private String word;
+
+    /**
+     * Matches the word with the current implementation.
+     */
+    @Benchmark
+    public boolean scanInPlace() {
+        return StringUtil.containsWordIgnoreCase(SENTENCE, word);
+    }
+
+    /**
+     * Matches the word with the previous implementation.
+     */
+    @Benchmark
+    public boolean splitWithRegex() {
+        return containsWordIgnoreCaseBySplitting(SENTENCE, word);
+    }
+
+    /**
+     * The implementation of {@code StringUtil#containsWordIgnoreCase} before it scanned the sentence in place.
+     */
+    private static boolean containsWordIgnoreCaseBySplitting(String sentence, String word) {
+        requireNonNull(sentence);
+        requireNonNull(word);
+
+        String preppedWord = word.trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+
+        String[] wordsInPreppedSentence = sentence.split("\\s+");
+
+        return Arrays.stream(wordsInPreppedSentence)
+                .anyMatch(preppedWord::equalsIgnoreCase);
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDatetime;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures editing an appointment and removing a person in a large address book, which look up persons and
+ * appointments by equality and so depend on their cached hash codes. Each benchmark undoes its change, so the
+ * address book is the same before every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AddressBookBenchmark {
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private Appointment appointment;
+    private Appointment editedAppointment;
+    private Person person;
+    private List<Appointment> personAppointments;
+
+    /**
+     * Generates an address book with {@code size} persons and as many appointments, and picks a person and an
+     * appointment from the middle of it.
+     */
+    @Setup
+    public void setUp() {
+        addressBook = BenchmarkData.getAddressBook(size, size);
+        appointment = addressBook.getAppointmentList().get(size / 2);
+        editedAppointment = new Appointment(new AppointmentDatetime("2099-12-31T23:45"), appointment.getSeller(),
+                appointment.getBuyer().orElseThrow());
+        person = addressBook.getPersonList().get(size / 2);
+        personAppointments = List.copyOf(addressBook.getAppointmentList().filtered(
+                appointment -> appointment.isPersonSeller(person) || appointment.isPersonBuyer(person)));
+    }
+
+    /**
+     * Replaces an appointment with an edited one, and then changes it back.
+     */
+    @Benchmark
+    public void setAppointment() {
+        addressBook.setAppointment(appointment, editedAppointment);
+        addressBook.setAppointment(editedAppointment, appointment);
+    }
+
+    /**
+     * Removes a person along with their appointments, and then adds them back.
+     */
+    @Benchmark
+    public void removePerson() {
+        addressBook.removePerson(person);
+        addressBook.addPerson(person);
+        personAppointments.forEach(addressBook::addAppointment);
+    }
+}
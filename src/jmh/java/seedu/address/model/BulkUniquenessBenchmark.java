@@ -0,0 +1,65 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.UniqueAppointmentList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Measures replacing the whole person and appointment lists, as resetting an address book does.
+ * Each replacement validates that the new list has no duplicates in a single pass, so the scores should grow
+ * linearly with the size instead of quadratically.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BulkUniquenessBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private List<Appointment> appointments;
+
+    /**
+     * Generates {@code size} persons and as many appointments between them.
+     */
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.getPersons(size);
+        appointments = BenchmarkData.getAppointments(persons, size);
+    }
+
+    /**
+     * Replaces the contents of a person list, validating that the persons are unique.
+     */
+    @Benchmark
+    public UniquePersonList setPersons() {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+        return uniquePersonList;
+    }
+
+    /**
+     * Replaces the contents of an appointment list, validating that the appointments are unique.
+     */
+    @Benchmark
+    public UniqueAppointmentList setAppointments() {
+        UniqueAppointmentList uniqueAppointmentList = new UniqueAppointmentList();
+        uniqueAppointmentList.setAppointments(appointments);
+        return uniqueAppointmentList;
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Measures adding persons to a {@code UniquePersonList} one at a time, as loading an address book does.
+ * Each add checks the person against the storage identifier index, so the time to add every person grows linearly
+ * with their number: the score for 200k persons should be about twenty times that for 10k.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UniquePersonListBenchmark {
+
+    @Param({"10000", "100000", "200000"})
+    private int size;
+
+    private List<Person> persons;
+    private UniquePersonList uniquePersonList;
+    private Person missingPerson;
+
+    /**
+     * Generates the persons to add, and a list already holding them for the lookup benchmark.
+     */
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.getPersons(size);
+        uniquePersonList = new UniquePersonList();
+        persons.forEach(uniquePersonList::add);
+        missingPerson = BenchmarkData.getPerson(size);
+    }
+
+    /**
+     * Adds every person to an empty list, one at a time.
+     */
+    @Benchmark
+    public UniquePersonList addOneByOne() {
+        UniquePersonList list = new UniquePersonList();
+        for (Person person : persons) {
+            list.add(person);
+        }
+        return list;
+    }
+
+    /**
+     * Checks for a person who is not in the list, which used to scan the whole list.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean containsMissingPerson() {
+        return uniquePersonList.contains(missingPerson);
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.tag;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the heap retained by the tags of many persons, with the tags shared through {@link Tag#of(String)} or
+ * created with the constructor. Each tag name is copied first, as it would be when read from a file.
+ * The retained heap per person is reported as the {@code retainedBytesPerPerson} secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TagBenchmark {
+
+    private static final String[] TAGS = {"friends", "colleagues", "family", "neighbours", "investor", "urgent"};
+    private static final int GC_COUNT = 5;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"true", "false"})
+    private boolean isShared;
+
+    /**
+     * The heap retained by each person's tags, measured by {@link #buildTags(Footprint)}.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedBytesPerPerson;
+    }
+
+    /**
+     * Builds two tags for each of {@code size} persons and measures the heap they retain after garbage collection.
+     */
+    @Benchmark
+    public List<Set<Tag>> buildTags(Footprint footprint) {
+        // the list is allocated at full size before measuring, so that only the tags are counted
+        List<Set<Tag>> tagSets = new ArrayList<>(size);
+        long usedBefore = getUsedHeapAfterGc();
+        for (int i = 0; i < size; i++) {
+            tagSets.add(Set.of(getTag(TAGS[i % TAGS.length]), getTag(TAGS[(i + 1) % TAGS.length])));
+        }
+        footprint.retainedBytesPerPerson = (getUsedHeapAfterGc() - usedBefore) / size;
+        return tagSets;
+    }
+
+    private Tag getTag(String tagName) {
+        String readTagName = new String(tagName.toCharArray());
+        return isShared ? Tag.of(readTagName) : new Tag(readTagName);
+    }
+
+    private static long getUsedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < GC_COUNT; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
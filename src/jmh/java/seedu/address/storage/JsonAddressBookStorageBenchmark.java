@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Measures loading an address book from a JSON data file, which parses the file, validates every value and builds
+ * the model's indexes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private Path filePath;
+    private JsonAddressBookStorage storage;
+
+    /**
+     * Writes an address book with {@code size} persons and as many appointments to a temporary file.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        filePath = Files.createTempFile("addressbook", ".json");
+        storage = new JsonAddressBookStorage(filePath, false);
+        storage.saveAddressBook(BenchmarkData.getAddressBook(size, size));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    /**
+     * Loads the address book from the file.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook().orElseThrow();
+    }
+}
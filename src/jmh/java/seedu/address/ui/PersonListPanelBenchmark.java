@@ -0,0 +1,127 @@
+package seedu.address.ui;
+
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures the frame time of scrolling through a large person list. Each invocation scrolls the list down by a page
+ * and then applies CSS and lays out the window on the JavaFX application thread, which is where the list updates its
+ * cells during a frame. Rendering the frame is not included.
+ * With {@code isCardReused} false, the cells create a new card for every person they show, as they did before cards
+ * were reused, for comparison. Needs a display, as the list is shown in a window.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersonListPanelBenchmark {
+
+    private static final int WINDOW_WIDTH = 800;
+    private static final int WINDOW_HEIGHT = 600;
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    @Param({"true", "false"})
+    private boolean isCardReused;
+
+    private Stage stage;
+    private Parent root;
+    private ListView<Person> personListView;
+    private int firstVisibleIndex;
+
+    /**
+     * Starts the JavaFX platform and shows a person list panel with {@code size} persons in a window.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // the platform was started by an earlier trial in this fork
+        }
+        Platform.setImplicitExit(false);
+
+        runOnFxThread(() -> {
+            PersonListPanel personListPanel =
+                    new PersonListPanel(FXCollections.observableList(BenchmarkData.getPersons(size)));
+            root = personListPanel.getRoot();
+            personListView = getPersonListView(root);
+            if (!isCardReused) {
+                personListView.setCellFactory(listView -> new CardPerPersonCell());
+            }
+            stage = new Stage();
+            stage.setScene(new Scene(root, WINDOW_WIDTH, WINDOW_HEIGHT));
+            stage.show();
+        });
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        runOnFxThread(() -> stage.close());
+    }
+
+    /**
+     * Scrolls the list down by a page, wrapping around at the end, and lays out the cells that come into view.
+     */
+    @Benchmark
+    public void scrollOnePage() throws Exception {
+        runOnFxThread(() -> {
+            firstVisibleIndex = (firstVisibleIndex + PAGE_SIZE) % size;
+            personListView.scrollTo(firstVisibleIndex);
+            root.applyCss();
+            root.layout();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ListView<Person> getPersonListView(Parent root) {
+        return (ListView<Person>) root.lookup("#personListView");
+    }
+
+    /**
+     * Runs {@code action} on the JavaFX application thread and waits for it to finish.
+     */
+    private static void runOnFxThread(Runnable action) throws Exception {
+        FutureTask<Void> task = new FutureTask<>(action, null);
+        Platform.runLater(task);
+        task.get();
+    }
+
+    /**
+     * A cell that creates a new {@code PersonCard} for every person it shows.
+     */
+    private static class CardPerPersonCell extends ListCell<Person> {
+        @Override
+        protected void updateItem(Person person, boolean empty) {
+            super.updateItem(person, empty);
+
+            if (empty || person == null) {
+                setGraphic(null);
+                setText(null);
+            } else {
+                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+            }
+        }
+    }
+}
@@ -23,7 +23,8 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -57,8 +58,12 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage addressBookStorage = BinaryAddressBookStorage.isBinaryFile(addressBookFilePath)
+                ? new BinaryAddressBookStorage(addressBookFilePath)
+                : new JournaledAddressBookStorage(addressBookFilePath, userPrefs.isAddressBookPrettyPrinted());
+        storage = new StorageManager(addressBookStorage, userPrefsStorage,
+                userPrefs.getAddressBookSaveDebounceMillis(), userPrefs.getAddressBookSaveMaxLatencyMillis());
 
         model = initModelManager(storage, userPrefs);
 
@@ -177,6 +182,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
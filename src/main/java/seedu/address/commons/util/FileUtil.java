@@ -1,10 +1,17 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +19,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +88,61 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes the content produced by {@code contentWriter} to a file by streaming it to a temporary file next to it
+     * first and then moving the temporary file over {@code file}, so that {@code file} is never left partially
+     * written. Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = Channels.newOutputStream(channel);
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(false);
+            }
+            moveReplacingExisting(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} if it exists.
+     * The move is atomic where the file system supports it, and falls back to a plain move where it does not.
+     */
+    public static void moveReplacingExisting(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Appends given string to a file and forces it to the storage device before returning.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFileAndSync(Path file, String content) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Writes content to an output stream, without closing it.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
@@ -11,10 +11,13 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -45,7 +48,20 @@ public class JsonUtil {
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        return objectMapper.readValue(jsonFile.toFile(), classOfObjectToDeserialize);
+    }
+
+    /**
+     * Returns a parser that reads the JSON data in the given file token by token, without reading the whole file
+     * into memory first. Values read through the parser are deserialized with the same settings as the rest of
+     * this class. The caller is responsible for closing the parser, which closes the file.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.createParser(filePath.toFile());
     }
 
     /**
@@ -85,10 +101,25 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, true);
+    }
+
+    /**
+     * Saves the Json object to the specified file.
+     * The JSON is streamed to a temporary file that then replaces the file, so the document is never held in
+     * memory as a whole and the file is never left partially written.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @param isPrettyPrinted whether the JSON is indented for readability
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isPrettyPrinted) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        ObjectWriter writer = (isPrettyPrinted ? objectMapper.writerWithDefaultPrettyPrinter() : objectMapper.writer())
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        FileUtil.writeToFileAtomically(filePath, out -> writer.writeValue(out, jsonFile));
     }
 
 
@@ -111,6 +142,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
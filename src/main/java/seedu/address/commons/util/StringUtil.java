@@ -5,7 +5,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Helper functions for handling strings.
@@ -27,15 +29,120 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
+        // same bounds as word.trim(), without copying the word
+        int wordStart = 0;
+        int wordEnd = word.length();
+        while (wordStart < wordEnd && word.charAt(wordStart) <= ' ') {
+            wordStart++;
+        }
+        while (wordEnd > wordStart && word.charAt(wordEnd - 1) <= ' ') {
+            wordEnd--;
+        }
+        checkArgument(wordStart < wordEnd, "Word parameter cannot be empty");
+        checkArgument(indexOfWhitespace(word, wordStart, wordEnd) == wordEnd,
+                "Word parameter should be a single word");
+
+        int wordLength = wordEnd - wordStart;
+        int sentenceLength = sentence.length();
+        int index = 0;
+        while (index < sentenceLength) {
+            while (index < sentenceLength && isWhitespace(sentence.charAt(index))) {
+                index++;
+            }
+            int sentenceWordStart = index;
+            index = indexOfWhitespace(sentence, index, sentenceLength);
+
+            if (index - sentenceWordStart == wordLength
+                    && sentence.regionMatches(true, sentenceWordStart, word, wordStart, wordLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first whitespace character in {@code s} between {@code from} and {@code to},
+     * or {@code to} if there is none.
+     */
+    private static int indexOfWhitespace(String s, int from, int to) {
+        int index = from;
+        while (index < to && !isWhitespace(s.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns true if {@code c} is a whitespace character, as matched by the regex {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns the distinct words in {@code sentence} in lower case, so that a word matched by
+     * {@link #containsWordIgnoreCase(String, String)} can instead be looked up with {@link #toLowerCaseWord(String)}.
+     * @param sentence cannot be null
+     */
+    public static Set<String> toLowerCaseWords(String sentence) {
+        requireNonNull(sentence);
+
+        List<String> words = new ArrayList<>();
+        int sentenceLength = sentence.length();
+        int index = 0;
+        while (index < sentenceLength) {
+            while (index < sentenceLength && isWhitespace(sentence.charAt(index))) {
+                index++;
+            }
+            int wordStart = index;
+            index = indexOfWhitespace(sentence, index, sentenceLength);
+
+            if (index > wordStart) {
+                words.add(toLowerCase(sentence.substring(wordStart, index)));
+            }
+        }
+        return Set.copyOf(words);
+    }
+
+    /**
+     * Returns {@code word} trimmed and in lower case, in the form returned by {@link #toLowerCaseWords(String)}.
+     * Returns {@code word} itself if it is already in that form.
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public static String toLowerCaseWord(String word) {
+        requireNonNull(word);
+
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        checkArgument(indexOfWhitespace(preppedWord, 0, preppedWord.length()) == preppedWord.length(),
+                "Word parameter should be a single word");
+        return toLowerCase(preppedWord);
+    }
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+    /**
+     * Returns {@code word} in lower case, independent of the default locale.
+     * Each character is folded the way {@link String#equalsIgnoreCase(String)} compares characters, so two words
+     * are equal ignoring case exactly when their lower case forms are equal (e.g. final and medial sigma, or dotted
+     * and dotless i). Returns {@code word} itself if it is already in lower case.
+     * @param word cannot be null
+     */
+    public static String toLowerCase(String word) {
+        requireNonNull(word);
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (foldCase(c) != c) {
+                char[] folded = word.toCharArray();
+                for (int j = i; j < folded.length; j++) {
+                    folded[j] = foldCase(folded[j]);
+                }
+                return new String(folded);
+            }
+        }
+        return word;
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    private static char foldCase(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
     }
 
     /**
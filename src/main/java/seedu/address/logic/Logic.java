@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -17,6 +18,9 @@ import seedu.address.model.person.Person;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * Executing a command changes the model and its observable lists, so commands must be executed on one thread at
+     * a time, and the lists must only be read on that thread. The UI executes commands on a background thread and
+     * shows copies of the lists that it updates on the JavaFX Application Thread.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -24,6 +28,13 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given the message to show the user when saving the changes made by an earlier
+     * command fails after that command has returned.
+     * The handler may be called on a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     /**
      * Returns the AddressBook.
      *
@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -34,6 +35,10 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /** Version of the address book that was last saved, or -1 if it has not been saved yet or the save failed. */
+    private volatile long savedAddressBookVersion = -1;
+    private volatile Consumer<String> saveFailureHandler = message -> {};
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -41,6 +46,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        storage.setAddressBookSaveFailureHandler(this::handleSaveFailure);
     }
 
     @Override
@@ -51,17 +57,43 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        long addressBookVersion = model.getAddressBookVersion();
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            if (addressBookVersion == savedAddressBookVersion) {
+                logger.fine("Address book unchanged, skipping save");
+            } else {
+                // Recorded before scheduling, so that a background save failing straight away is not overwritten
+                savedAddressBookVersion = addressBookVersion;
+                storage.scheduleSaveAddressBook(model.getAddressBook());
+            }
+            if (commandResult.isExit()) {
+                storage.flushAddressBook();
+            }
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            savedAddressBookVersion = -1;
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    private void handleSaveFailure(IOException ioe) {
+        savedAddressBookVersion = -1;
+        saveFailureHandler.accept(getSaveErrorMessage(ioe));
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
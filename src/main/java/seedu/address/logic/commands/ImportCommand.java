@@ -0,0 +1,124 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.Messages.MESSAGE_DUPLICATE_PERSON;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Adds the clients read from a file to the address book in one go.
+ * The file is read and validated when the command is parsed, so executing the command only checks the clients
+ * against the address book and adds those that are new as a single change, which is then saved once.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the clients listed in a CSV or JSON lines file "
+            + "to the address book. "
+            + "Parameters: FILE_PATH (must end in .csv or .jsonl)\n"
+            + "Example: " + COMMAND_WORD + " data/leads.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d client(s) from %2$s";
+    public static final String MESSAGE_REJECTED_LINES = "%1$d line(s) were not imported:";
+    public static final String MESSAGE_REJECTED_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_REJECTED_LINES = "...and %1$d more";
+
+    /** Maximum number of rejected lines that are described individually in the result. */
+    public static final int MAX_REJECTED_LINES_SHOWN = 20;
+
+    private final Path filePath;
+    private final SortedMap<Integer, Person> personsByLine;
+    private final SortedMap<Integer, String> rejectionsByLine;
+
+    /**
+     * Creates an ImportCommand to add the persons read from {@code filePath}.
+     *
+     * @param filePath File the persons were read from.
+     * @param personsByLine Valid persons read from the file, keyed by the line they were read from.
+     * @param rejectionsByLine Reasons that lines of the file could not be read as persons, keyed by line.
+     */
+    public ImportCommand(Path filePath, Map<Integer, Person> personsByLine, Map<Integer, String> rejectionsByLine) {
+        requireAllNonNull(filePath, personsByLine, rejectionsByLine);
+        this.filePath = filePath;
+        this.personsByLine = new TreeMap<>(personsByLine);
+        this.rejectionsByLine = new TreeMap<>(rejectionsByLine);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        SortedMap<Integer, String> rejections = new TreeMap<>(rejectionsByLine);
+        List<Person> toAdd = new ArrayList<>(personsByLine.size());
+        personsByLine.forEach((line, person) -> {
+            if (model.hasPerson(person)) {
+                rejections.put(line, MESSAGE_DUPLICATE_PERSON);
+            } else {
+                toAdd.add(person);
+            }
+        });
+
+        if (!toAdd.isEmpty()) {
+            model.addPersons(toAdd);
+        }
+        return new CommandResult(getSummary(toAdd.size(), rejections), false, false, false, true);
+    }
+
+    /**
+     * Returns a summary of the import, listing the reasons that the first few rejected lines were not imported.
+     */
+    private String getSummary(int importedCount, SortedMap<Integer, String> rejections) {
+        StringBuilder summary = new StringBuilder(String.format(MESSAGE_SUCCESS, importedCount, filePath));
+        if (rejections.isEmpty()) {
+            return summary.toString();
+        }
+
+        summary.append('\n').append(String.format(MESSAGE_REJECTED_LINES, rejections.size()));
+        rejections.entrySet().stream()
+                .limit(MAX_REJECTED_LINES_SHOWN)
+                .forEach(rejection -> summary.append('\n')
+                        .append(String.format(MESSAGE_REJECTED_LINE, rejection.getKey(), rejection.getValue())));
+        if (rejections.size() > MAX_REJECTED_LINES_SHOWN) {
+            summary.append('\n')
+                    .append(String.format(MESSAGE_MORE_REJECTED_LINES, rejections.size() - MAX_REJECTED_LINES_SHOWN));
+        }
+        return summary.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath)
+                && personsByLine.equals(otherImportCommand.personsByLine)
+                && rejectionsByLine.equals(otherImportCommand.rejectionsByLine);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("personsByLine", personsByLine)
+                .add("rejectionsByLine", rejectionsByLine)
+                .toString();
+    }
+}
@@ -2,6 +2,9 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
@@ -31,15 +34,29 @@ public class SearchAppointmentCommand extends Command {
             + "  " + COMMAND_WORD + " alice tf/today (finds today's appointments with alice)\n";
 
     private final AppointmentContainsKeywordsPredicate predicate;
+    private final Clock clock;
 
     public SearchAppointmentCommand(AppointmentContainsKeywordsPredicate predicate) {
+        this(predicate, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a SearchAppointmentCommand whose timeframe is measured against the time given by {@code clock}.
+     * The time is read once when the command is executed, and the appointments shown stay filtered against it until
+     * the next search.
+     */
+    public SearchAppointmentCommand(AppointmentContainsKeywordsPredicate predicate, Clock clock) {
+        requireNonNull(clock);
         this.predicate = predicate;
+        this.clock = clock;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredAppointmentList(predicate);
+        model.updateFilteredAppointmentList(predicate
+                .atTime(LocalDateTime.now(clock))
+                .withIndex(model::getAppointmentsWithKeyword));
         return new CommandResult(
                 String.format(Messages.MESSAGE_APPOINTMENTS_LISTED_OVERVIEW, model.getFilteredAppointmentList().size()),
                 false, false, true, false);
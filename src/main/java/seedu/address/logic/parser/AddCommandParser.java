@@ -9,6 +9,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_TYPE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.Collection;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -45,19 +46,30 @@ public class AddCommandParser implements Parser<AddCommand> {
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ROLE, PREFIX_ADDRESS,
                 PREFIX_PROPERTY_TYPE);
-        Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
-        Phone phone = ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get());
-        Email email = ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get());
-        Role role = ParserUtil.parseRole(argMultimap.getValue(PREFIX_ROLE).get());
-        Address address = ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get(),
-                argMultimap.getValue(PREFIX_PROPERTY_TYPE).get());
-        Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
-
-        Person person = new Person(name, phone, email, role, address, tagList);
+        Person person = parsePerson(argMultimap.getValue(PREFIX_NAME).get(),
+                argMultimap.getValue(PREFIX_PHONE).get(), argMultimap.getValue(PREFIX_EMAIL).get(),
+                argMultimap.getValue(PREFIX_ROLE).get(), argMultimap.getValue(PREFIX_ADDRESS).get(),
+                argMultimap.getValue(PREFIX_PROPERTY_TYPE).get(), argMultimap.getAllValues(PREFIX_TAG));
 
         return new AddCommand(person);
     }
 
+    /**
+     * Parses the given field values into a {@code Person}, validating each of them as the add command does.
+     * @throws ParseException if any of the values is invalid
+     */
+    static Person parsePerson(String name, String phone, String email, String role, String address,
+            String propertyType, Collection<String> tags) throws ParseException {
+        Name parsedName = ParserUtil.parseName(name);
+        Phone parsedPhone = ParserUtil.parsePhone(phone);
+        Email parsedEmail = ParserUtil.parseEmail(email);
+        Role parsedRole = ParserUtil.parseRole(role);
+        Address parsedAddress = ParserUtil.parseAddress(address, propertyType);
+        Set<Tag> tagList = ParserUtil.parseTags(tags);
+
+        return new Person(parsedName, parsedPhone, parsedEmail, parsedRole, parsedAddress, tagList);
+    }
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
@@ -0,0 +1,324 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object.
+ *
+ * The file named by the arguments is read and every line of it is validated as the add command would validate the
+ * same fields. Lines are validated in parallel, as each is independent of the others, and lines that are invalid or
+ * repeat the phone number of an earlier line are rejected without affecting the rest of the file.
+ *
+ * A CSV file starts with a line naming its columns, in any order, and has one client on each following line. Values
+ * containing commas or quotes are quoted, with quotes inside them doubled, and the tags of a client are separated
+ * by semicolons. A JSON lines file has one JSON object on each line, whose fields are named like the columns of a
+ * CSV file, with the tags given as an array.
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_ROLE = "role";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_PROPERTY_TYPE = "propertyType";
+    public static final String COLUMN_TAGS = "tags";
+
+    public static final String MESSAGE_UNSUPPORTED_FILE_TYPE = "Only .csv and .jsonl files can be imported";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found: %1$s";
+    public static final String MESSAGE_UNREADABLE_FILE = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_MISSING_HEADER = "The first line of a CSV file must name its columns";
+    public static final String MESSAGE_MISSING_COLUMNS = "Missing column(s): %1$s";
+    public static final String MESSAGE_UNKNOWN_COLUMN = "Unknown column: %1$s";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "Column %1$s appears more than once";
+    public static final String MESSAGE_WRONG_VALUE_COUNT = "Expected %1$d values but found %2$d";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted value is not closed";
+    public static final String MESSAGE_INVALID_JSON = "Not a JSON object";
+    public static final String MESSAGE_INVALID_VALUE = "Invalid value for %1$s";
+    public static final String MESSAGE_MISSING_VALUE = "Missing value for %1$s";
+    public static final String MESSAGE_DUPLICATE_LINE = "Same phone number as line %1$d";
+
+    private static final List<String> COLUMNS = List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_ROLE,
+            COLUMN_ADDRESS, COLUMN_PROPERTY_TYPE, COLUMN_TAGS);
+    private static final List<String> REQUIRED_COLUMNS = COLUMNS.subList(0, COLUMNS.indexOf(COLUMN_TAGS));
+    private static final String TAG_SEPARATOR = ";";
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, or the file cannot be read
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        try {
+            filePath = Paths.get(trimmedArgs);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_UNREADABLE_FILE, trimmedArgs, e.getMessage()));
+        }
+
+        String fileName = filePath.getFileName() == null ? "" : filePath.getFileName().toString();
+        fileName = fileName.toLowerCase(Locale.ROOT);
+        if (!fileName.endsWith(".csv") && !fileName.endsWith(".jsonl")) {
+            throw new ParseException(MESSAGE_UNSUPPORTED_FILE_TYPE);
+        }
+
+        List<String> lines = readLines(filePath);
+        if (fileName.endsWith(".csv")) {
+            if (lines.isEmpty()) {
+                throw new ParseException(MESSAGE_MISSING_HEADER);
+            }
+            List<String> columns = parseHeader(lines.get(0));
+            return parseLines(filePath, lines, 1, line -> parseCsvLine(line, columns));
+        }
+        return parseLines(filePath, lines, 0, ImportCommandParser::parseJsonLine);
+    }
+
+    private static List<String> readLines(Path filePath) throws ParseException {
+        if (!Files.isRegularFile(filePath)) {
+            throw new ParseException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new ParseException(String.format(MESSAGE_UNREADABLE_FILE, filePath, e.getMessage()));
+        }
+
+        if (!lines.isEmpty() && lines.get(0).startsWith(BYTE_ORDER_MARK)) {
+            lines.set(0, lines.get(0).substring(BYTE_ORDER_MARK.length()));
+        }
+        return lines;
+    }
+
+    /**
+     * Parses the non-blank lines of {@code lines} from {@code firstLineIndex} onwards into persons, in parallel, and
+     * collects them with the reasons that the other lines were rejected into an ImportCommand.
+     */
+    private static ImportCommand parseLines(Path filePath, List<String> lines, int firstLineIndex,
+            LineParser lineParser) {
+        List<ParsedLine> parsedLines = IntStream.range(firstLineIndex, lines.size())
+                .parallel()
+                .filter(index -> !lines.get(index).isBlank())
+                .mapToObj(index -> ParsedLine.of(index + 1, lines.get(index), lineParser))
+                .collect(Collectors.toList());
+
+        Map<Integer, Person> personsByLine = new TreeMap<>();
+        Map<Integer, String> rejectionsByLine = new TreeMap<>();
+        Map<String, Integer> linesByIdentifier = new HashMap<>();
+        for (ParsedLine parsedLine : parsedLines) {
+            if (parsedLine.person == null) {
+                rejectionsByLine.put(parsedLine.lineNumber, parsedLine.error);
+                continue;
+            }
+
+            Integer earlierLine = linesByIdentifier.putIfAbsent(parsedLine.person.getStorageIdentifier(),
+                    parsedLine.lineNumber);
+            if (earlierLine != null) {
+                rejectionsByLine.put(parsedLine.lineNumber, String.format(MESSAGE_DUPLICATE_LINE, earlierLine));
+            } else {
+                personsByLine.put(parsedLine.lineNumber, parsedLine.person);
+            }
+        }
+        return new ImportCommand(filePath, personsByLine, rejectionsByLine);
+    }
+
+    /**
+     * Parses the header line of a CSV file into the names of its columns, in order.
+     * @throws ParseException if a column is unknown or repeated, or a required column is missing
+     */
+    private static List<String> parseHeader(String header) throws ParseException {
+        List<String> columns = new ArrayList<>();
+        for (String cell : splitCsvLine(header)) {
+            String column = findColumn(cell.trim());
+            if (column == null) {
+                throw new ParseException(String.format(MESSAGE_UNKNOWN_COLUMN, cell.trim()));
+            }
+            if (columns.contains(column)) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_COLUMN, column));
+            }
+            columns.add(column);
+        }
+
+        List<String> missingColumns = new ArrayList<>(REQUIRED_COLUMNS);
+        missingColumns.removeAll(columns);
+        if (!missingColumns.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_COLUMNS, String.join(", ", missingColumns)));
+        }
+        return columns;
+    }
+
+    private static Person parseCsvLine(String line, List<String> columns) throws ParseException {
+        List<String> cells = splitCsvLine(line);
+        if (cells.size() != columns.size()) {
+            throw new ParseException(String.format(MESSAGE_WRONG_VALUE_COUNT, columns.size(), cells.size()));
+        }
+
+        Map<String, String> values = new HashMap<>();
+        List<String> tags = new ArrayList<>();
+        for (int i = 0; i < cells.size(); i++) {
+            if (!columns.get(i).equals(COLUMN_TAGS)) {
+                values.put(columns.get(i), cells.get(i));
+                continue;
+            }
+            Arrays.stream(cells.get(i).split(TAG_SEPARATOR))
+                    .filter(tag -> !tag.isBlank())
+                    .forEach(tags::add);
+        }
+        return parsePerson(values, tags);
+    }
+
+    private static Person parseJsonLine(String line) throws ParseException {
+        Map<?, ?> object;
+        try {
+            object = JsonUtil.fromJsonString(line, Map.class);
+        } catch (IOException e) {
+            throw new ParseException(MESSAGE_INVALID_JSON);
+        }
+        if (object == null) {
+            throw new ParseException(MESSAGE_INVALID_JSON);
+        }
+
+        Map<String, String> values = new HashMap<>();
+        List<String> tags = new ArrayList<>();
+        for (Map.Entry<?, ?> field : object.entrySet()) {
+            String column = findColumn(field.getKey().toString());
+            Object value = field.getValue();
+            if (column == null) {
+                throw new ParseException(String.format(MESSAGE_UNKNOWN_COLUMN, field.getKey()));
+            } else if (value == null) {
+                continue;
+            } else if (column.equals(COLUMN_TAGS) && value instanceof List) {
+                for (Object tag : (List<?>) value) {
+                    tags.add(toScalarString(tag, column));
+                }
+            } else if (column.equals(COLUMN_TAGS)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_VALUE, column));
+            } else {
+                values.put(column, toScalarString(value, column));
+            }
+        }
+        return parsePerson(values, tags);
+    }
+
+    private static String toScalarString(Object value, String column) throws ParseException {
+        if (!(value instanceof String || value instanceof Number)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_VALUE, column));
+        }
+        return value.toString();
+    }
+
+    /**
+     * Creates a person from the values of its fields, keyed by column, as the add command would.
+     * @throws ParseException if a required value is missing or blank, or any value is invalid
+     */
+    private static Person parsePerson(Map<String, String> values, List<String> tags) throws ParseException {
+        for (String column : REQUIRED_COLUMNS) {
+            if (values.get(column) == null || values.get(column).isBlank()) {
+                throw new ParseException(String.format(MESSAGE_MISSING_VALUE, column));
+            }
+        }
+        return AddCommandParser.parsePerson(values.get(COLUMN_NAME), values.get(COLUMN_PHONE),
+                values.get(COLUMN_EMAIL), values.get(COLUMN_ROLE), values.get(COLUMN_ADDRESS),
+                values.get(COLUMN_PROPERTY_TYPE), tags);
+    }
+
+    /**
+     * Returns the column named {@code name}, ignoring case, or null if there is no such column.
+     */
+    private static String findColumn(String name) {
+        return COLUMNS.stream().filter(column -> column.equalsIgnoreCase(name)).findFirst().orElse(null);
+    }
+
+    /**
+     * Splits a line of a CSV file into its values, removing the quotes around quoted values.
+     * @throws ParseException if a quoted value is not closed
+     */
+    private static List<String> splitCsvLine(String line) throws ParseException {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean isQuoted = false;
+        int index = 0;
+        while (index < line.length()) {
+            char c = line.charAt(index);
+            boolean isEscapedQuote = isQuoted && c == '"' && index + 1 < line.length()
+                    && line.charAt(index + 1) == '"';
+            if (isEscapedQuote) {
+                cell.append(c);
+                index++;
+            } else if (c == '"') {
+                isQuoted = !isQuoted;
+            } else if (c == ',' && !isQuoted) {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+            index++;
+        }
+
+        if (isQuoted) {
+            throw new ParseException(MESSAGE_UNTERMINATED_QUOTE);
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    /**
+     * Parses a single line of an import file into a person.
+     */
+    @FunctionalInterface
+    private interface LineParser {
+        Person parse(String line) throws ParseException;
+    }
+
+    /**
+     * The person parsed from a line of an import file, or the reason the line could not be parsed.
+     */
+    private static class ParsedLine {
+        private final int lineNumber;
+        private final Person person;
+        private final String error;
+
+        private ParsedLine(int lineNumber, Person person, String error) {
+            this.lineNumber = lineNumber;
+            this.person = person;
+            this.error = error;
+        }
+
+        static ParsedLine of(int lineNumber, String line, LineParser lineParser) {
+            try {
+                return new ParsedLine(lineNumber, lineParser.parse(line), null);
+            } catch (ParseException e) {
+                return new ParsedLine(lineNumber, null, e.getMessage());
+            }
+        }
+    }
+}
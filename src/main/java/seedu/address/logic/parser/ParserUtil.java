@@ -81,7 +81,7 @@ public class ParserUtil {
         if (!Role.isValidRole(trimmedRole)) {
             throw new ParseException(Role.MESSAGE_CONSTRAINTS);
         }
-        return new Role(trimmedRole);
+        return Role.of(trimmedRole);
     }
 
     /**
@@ -101,7 +101,7 @@ public class ParserUtil {
             throw new ParseException(AddressType.MESSAGE_CONSTRAINTS);
         }
 
-        return new Address(trimmedAddress, new AddressType(addressType));
+        return new Address(trimmedAddress, AddressType.of(addressType));
     }
 
     /**
@@ -131,7 +131,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -2,9 +2,12 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -21,6 +24,8 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueAppointmentList appointments;
+    private long version;
+    private AddressBookChange lastChange = AddressBookChange.newHistory();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -51,7 +56,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        version++;
         this.persons.setPersons(persons);
+        lastChange = AddressBookChange.newHistory();
     }
 
     /**
@@ -59,17 +66,55 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code appointments} must not contain duplicate appointments.
      */
     public void setAppointments(List<Appointment> appointments) {
+        version++;
         this.appointments.setAppointments(appointments);
+        lastChange = AddressBookChange.newHistory();
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * This address book then shares the recorded changes of {@code newData}, as it holds the same data.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        AddressBookChange newDataLastChange = newData.getLastChange();
         setPersons(newData.getPersonList());
         setAppointments(newData.getAppointmentList());
+        if (newDataLastChange != null) {
+            lastChange = newDataLastChange;
+        }
+    }
+
+    /**
+     * Makes the modification recorded by {@code change} to this address book, which then has {@code change} as its
+     * last change. This address book must hold the data that {@code change} was made to, such as a copy of the
+     * address book whose last change was the one before {@code change}.
+     */
+    public void applyChange(AddressBookChange change) {
+        requireNonNull(change);
+
+        version++;
+        change.getRemovedAppointments().forEach(appointments::remove);
+        change.getRemovedPersons().forEach(persons::remove);
+        change.getReplacedPersons().forEach(persons::setPerson);
+        appointments.setAppointments(change.getReplacedAppointments());
+        persons.addAll(change.getAddedPersons());
+        change.getAddedAppointments().forEach(appointments::add);
+        lastChange = change;
+    }
+
+    /**
+     * Returns the number of modifications made to this address book so far.
+     * Any modification changes the version, so callers can compare versions to tell whether the data has changed.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public AddressBookChange getLastChange() {
+        return lastChange;
     }
 
     //// person-level operations
@@ -87,7 +132,19 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
+        version++;
         persons.add(p);
+        lastChange = AddressBookChange.ofAddedPersons(lastChange, List.of(p));
+    }
+
+    /**
+     * Adds {@code toAdd} to the address book, in order, as a single change to the person list.
+     * None of the persons may already exist in the address book, and {@code toAdd} must not contain duplicates.
+     */
+    public void addPersons(List<Person> toAdd) {
+        version++;
+        persons.addAll(toAdd);
+        lastChange = AddressBookChange.ofAddedPersons(lastChange, toAdd);
     }
 
     /**
@@ -99,8 +156,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        // Checked before anything is changed, so that a rejected edit leaves the address book as it was
+        Map<Appointment, Appointment> updatedAppointments =
+                appointments.getAppointmentsUpdatedWithEditedPerson(target, editedPerson);
         persons.setPerson(target, editedPerson);
-        appointments.updateAppointmentsWithEditedPerson(target, editedPerson);
+        version++;
+        appointments.setAppointments(updatedAppointments);
+        lastChange = AddressBookChange.ofReplacedPerson(lastChange, target, editedPerson, updatedAppointments);
     }
 
     /**
@@ -109,25 +171,20 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Also removes all appointments associated with this person.
      */
     public void removePerson(Person key) {
+        version++;
         persons.remove(key);
-
-        appointments.asUnmodifiableObservableList().stream()
-                .filter(appointment ->
-                        appointment.getSeller().equals(key) || appointment.getBuyer().equals(Optional.of(key)))
-                .toList()
-                .forEach(appointments::remove);
+        List<Appointment> removedAppointments = appointments.removeAppointmentsWithPerson(key);
+        lastChange = AddressBookChange.ofRemovedPerson(lastChange, key, removedAppointments);
     }
 
     /**
      * Returns a Person in the address book with the given phone number.
      *
      * @param phone Phone number to search for.
-     * @return Person with matching phone number
+     * @return Person with matching phone number, or null if there is no such person.
      */
     public Person findPerson(String phone) {
-        return persons.asUnmodifiableObservableList().stream()
-                    .filter(p -> p.getPhone().value.equals(phone))
-                    .findFirst().orElse(null);
+        return persons.findByStorageIdentifier(phone);
     }
 
     //// appointment-level operations
@@ -145,7 +202,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The appointment must not already exist in the address book.
      */
     public void addAppointment(Appointment a) {
+        version++;
         appointments.add(a);
+        lastChange = AddressBookChange.ofAddedAppointment(lastChange, a);
     }
 
     /**
@@ -153,7 +212,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeAppointment(Appointment key) {
+        version++;
         appointments.remove(key);
+        lastChange = AddressBookChange.ofRemovedAppointment(lastChange, key);
     }
 
     /**
@@ -165,7 +226,36 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setAppointment(Appointment target, Appointment editedAppointment) {
         requireNonNull(editedAppointment);
 
+        version++;
         appointments.setAppointment(target, editedAppointment);
+        lastChange = AddressBookChange.ofReplacedAppointment(lastChange, target, editedAppointment);
+    }
+
+    /**
+     * Returns an unmodifiable view of the appointments in the address book whose datetimes fall between
+     * {@code start} and {@code end}, in chronological order. The view reflects later changes to the address book.
+     *
+     * @see UniqueAppointmentList#getAppointmentsBetween(LocalDateTime, boolean, LocalDateTime, boolean)
+     */
+    public Collection<Appointment> getAppointmentsBetween(LocalDateTime start, boolean startInclusive,
+            LocalDateTime end, boolean endInclusive) {
+        return appointments.getAppointmentsBetween(start, startInclusive, end, endInclusive);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons in the address book with a word matching {@code keyword},
+     * ignoring case. The view reflects later changes to the address book.
+     */
+    public Set<Person> getPersonsWithKeyword(String keyword) {
+        return persons.getPersonsWithKeyword(keyword);
+    }
+
+    /**
+     * Returns an unmodifiable view of the appointments in the address book with a word matching {@code keyword},
+     * ignoring case. The view reflects later changes to the address book.
+     */
+    public Set<Appointment> getAppointmentsWithKeyword(String keyword) {
+        return appointments.getAppointmentsWithKeyword(keyword);
     }
 
     //// util methods
@@ -0,0 +1,159 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * One modification of an address book, recorded as the persons and appointments that it added, removed and replaced.
+ * Each change links to the change made before it, so that storage can write out just the changes made since it last
+ * saved instead of comparing whole address books. Changes are immutable, so they can be read from any thread.
+ *
+ * A change that replaces the whole content of an address book starts a new history, which makes any earlier change
+ * unreachable from it. To bound the memory held by a history, the change made after
+ * {@link #MAX_HISTORY_LENGTH} linked changes also starts a new history.
+ */
+public class AddressBookChange {
+
+    /** Maximum number of changes linked together in one history. */
+    public static final int MAX_HISTORY_LENGTH = 1000;
+
+    private final AddressBookChange previous;
+    private final int historyLength;
+    private final List<Person> addedPersons;
+    private final List<Person> removedPersons;
+    private final Map<Person, Person> replacedPersons;
+    private final List<Appointment> addedAppointments;
+    private final List<Appointment> removedAppointments;
+    private final Map<Appointment, Appointment> replacedAppointments;
+
+    private AddressBookChange(AddressBookChange previous, List<Person> addedPersons, List<Person> removedPersons,
+            Map<Person, Person> replacedPersons, List<Appointment> addedAppointments,
+            List<Appointment> removedAppointments, Map<Appointment, Appointment> replacedAppointments) {
+        requireAllNonNull(addedPersons, removedPersons, replacedPersons, addedAppointments, removedAppointments,
+                replacedAppointments);
+        boolean startsNewHistory = previous == null || previous.historyLength >= MAX_HISTORY_LENGTH;
+        this.previous = startsNewHistory ? null : previous;
+        this.historyLength = startsNewHistory ? 1 : previous.historyLength + 1;
+        this.addedPersons = List.copyOf(addedPersons);
+        this.removedPersons = List.copyOf(removedPersons);
+        this.replacedPersons = Collections.unmodifiableMap(new LinkedHashMap<>(replacedPersons));
+        this.addedAppointments = List.copyOf(addedAppointments);
+        this.removedAppointments = List.copyOf(removedAppointments);
+        this.replacedAppointments = Collections.unmodifiableMap(new LinkedHashMap<>(replacedAppointments));
+    }
+
+    /**
+     * Returns a change that replaces the whole content of an address book, which starts a new history.
+     */
+    static AddressBookChange newHistory() {
+        return new AddressBookChange(null, List.of(), List.of(), Map.of(), List.of(), List.of(), Map.of());
+    }
+
+    /**
+     * Returns the change made after {@code previous} that added {@code persons}.
+     */
+    static AddressBookChange ofAddedPersons(AddressBookChange previous, List<Person> persons) {
+        return new AddressBookChange(previous, persons, List.of(), Map.of(), List.of(), List.of(), Map.of());
+    }
+
+    /**
+     * Returns the change made after {@code previous} that replaced {@code target} with {@code editedPerson}, along
+     * with the appointments involving {@code target}, which are mapped to their updated appointments.
+     */
+    static AddressBookChange ofReplacedPerson(AddressBookChange previous, Person target, Person editedPerson,
+            Map<Appointment, Appointment> updatedAppointments) {
+        return new AddressBookChange(previous, List.of(), List.of(), Map.of(target, editedPerson), List.of(),
+                List.of(), updatedAppointments);
+    }
+
+    /**
+     * Returns the change made after {@code previous} that removed {@code person} along with
+     * {@code removedAppointments}, the appointments involving them.
+     */
+    static AddressBookChange ofRemovedPerson(AddressBookChange previous, Person person,
+            List<Appointment> removedAppointments) {
+        return new AddressBookChange(previous, List.of(), List.of(person), Map.of(), List.of(), removedAppointments,
+                Map.of());
+    }
+
+    /**
+     * Returns the change made after {@code previous} that added {@code appointment}.
+     */
+    static AddressBookChange ofAddedAppointment(AddressBookChange previous, Appointment appointment) {
+        return new AddressBookChange(previous, List.of(), List.of(), Map.of(), List.of(appointment), List.of(),
+                Map.of());
+    }
+
+    /**
+     * Returns the change made after {@code previous} that removed {@code appointment}.
+     */
+    static AddressBookChange ofRemovedAppointment(AddressBookChange previous, Appointment appointment) {
+        return new AddressBookChange(previous, List.of(), List.of(), Map.of(), List.of(), List.of(appointment),
+                Map.of());
+    }
+
+    /**
+     * Returns the change made after {@code previous} that replaced {@code target} with {@code editedAppointment}.
+     */
+    static AddressBookChange ofReplacedAppointment(AddressBookChange previous, Appointment target,
+            Appointment editedAppointment) {
+        return new AddressBookChange(previous, List.of(), List.of(), Map.of(), List.of(), List.of(),
+                Map.of(target, editedAppointment));
+    }
+
+    /**
+     * Returns the changes made after {@code change} up to and including this change, in the order they were made,
+     * or an empty {@code Optional} if {@code change} is not part of the history of this change.
+     * Takes time proportional to the number of changes returned.
+     */
+    public Optional<List<AddressBookChange>> getChangesSince(AddressBookChange change) {
+        List<AddressBookChange> changes = new ArrayList<>();
+        for (AddressBookChange current = this; current != change; current = current.previous) {
+            if (current == null) {
+                return Optional.empty();
+            }
+            changes.add(current);
+        }
+        Collections.reverse(changes);
+        return Optional.of(changes);
+    }
+
+    public List<Person> getAddedPersons() {
+        return addedPersons;
+    }
+
+    public List<Person> getRemovedPersons() {
+        return removedPersons;
+    }
+
+    /**
+     * Returns the persons that were replaced, mapped to the persons that replaced them.
+     */
+    public Map<Person, Person> getReplacedPersons() {
+        return replacedPersons;
+    }
+
+    public List<Appointment> getAddedAppointments() {
+        return addedAppointments;
+    }
+
+    public List<Appointment> getRemovedAppointments() {
+        return removedAppointments;
+    }
+
+    /**
+     * Returns the appointments that were replaced, mapped to the appointments that replaced them.
+     */
+    public Map<Appointment, Appointment> getReplacedAppointments() {
+        return replacedAppointments;
+    }
+}
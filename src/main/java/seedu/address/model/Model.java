@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -57,6 +59,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the address book is modified, so that callers can skip work,
+     * such as saving, when the address book has not changed since they last saw it.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -79,6 +87,13 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons, in order, as a single change.
+     * None of {@code persons} may already exist in the address book, and {@code persons} must not contain
+     * duplicates.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -112,6 +127,18 @@ public interface Model {
      */
     void setAppointment(Appointment target, Appointment editedAppointment);
 
+    /**
+     * Returns the persons in the address book with a word matching {@code keyword}, ignoring case.
+     * The returned set reflects later changes to the address book.
+     */
+    Set<Person> getPersonsWithKeyword(String keyword);
+
+    /**
+     * Returns the appointments in the address book with a word matching {@code keyword}, ignoring case.
+     * The returned set reflects later changes to the address book.
+     */
+    Set<Appointment> getAppointmentsWithKeyword(String keyword);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
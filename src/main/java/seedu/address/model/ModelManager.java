@@ -4,11 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.appointment.Appointment;
@@ -25,6 +29,7 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Appointment> filteredAppointments;
+    private final SortedList<Appointment> sortedFilteredAppointments;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -38,6 +43,7 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredAppointments = new FilteredList<>(this.addressBook.getAppointmentList());
+        sortedFilteredAppointments = new SortedList<>(filteredAppointments, Comparator.naturalOrder());
     }
 
     public ModelManager() {
@@ -91,6 +97,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -100,7 +111,7 @@ public class ModelManager implements Model {
     @Override
     public boolean hasPersonWithPhone(Phone phone) {
         requireNonNull(phone);
-        return addressBook.getPersonList().stream().anyMatch(c -> c.getPhone().equals(phone));
+        return addressBook.findPerson(phone.value) != null;
     }
 
     @Override
@@ -114,6 +125,13 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -144,6 +162,18 @@ public class ModelManager implements Model {
         addressBook.setAppointment(target, editedAppointment);
     }
 
+    @Override
+    public Set<Person> getPersonsWithKeyword(String keyword) {
+        requireNonNull(keyword);
+        return addressBook.getPersonsWithKeyword(keyword);
+    }
+
+    @Override
+    public Set<Appointment> getAppointmentsWithKeyword(String keyword) {
+        requireNonNull(keyword);
+        return addressBook.getAppointmentsWithKeyword(keyword);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -177,9 +207,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Appointment> getFilteredAppointmentList() {
-        // Sort the existing observable list instead of creating a new one
-        return filteredAppointments.sorted();
-
+        return sortedFilteredAppointments;
     }
 
     @Override
@@ -21,4 +21,12 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Appointment> getAppointmentList();
 
+    /**
+     * Returns the last change made to the address book, which links to the changes made before it,
+     * or null if its changes are not recorded.
+     */
+    default AddressBookChange getLastChange() {
+        return null;
+    }
+
 }
@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    boolean isAddressBookPrettyPrinted();
+
+    long getAddressBookSaveDebounceMillis();
+
+    long getAddressBookSaveMaxLatencyMillis();
+
 }
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,13 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String MESSAGE_NEGATIVE_SAVE_DELAY = "Save delays cannot be negative";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "ClientSquare.json");
+    private boolean addressBookPrettyPrinted = true;
+    private long addressBookSaveDebounceMillis = 300;
+    private long addressBookSaveMaxLatencyMillis = 2000;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +42,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookPrettyPrinted(newUserPrefs.isAddressBookPrettyPrinted());
+        setAddressBookSaveDebounceMillis(newUserPrefs.getAddressBookSaveDebounceMillis());
+        setAddressBookSaveMaxLatencyMillis(newUserPrefs.getAddressBookSaveMaxLatencyMillis());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +65,32 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isAddressBookPrettyPrinted() {
+        return addressBookPrettyPrinted;
+    }
+
+    public void setAddressBookPrettyPrinted(boolean addressBookPrettyPrinted) {
+        this.addressBookPrettyPrinted = addressBookPrettyPrinted;
+    }
+
+    public long getAddressBookSaveDebounceMillis() {
+        return addressBookSaveDebounceMillis;
+    }
+
+    public void setAddressBookSaveDebounceMillis(long addressBookSaveDebounceMillis) {
+        checkArgument(addressBookSaveDebounceMillis >= 0, MESSAGE_NEGATIVE_SAVE_DELAY);
+        this.addressBookSaveDebounceMillis = addressBookSaveDebounceMillis;
+    }
+
+    public long getAddressBookSaveMaxLatencyMillis() {
+        return addressBookSaveMaxLatencyMillis;
+    }
+
+    public void setAddressBookSaveMaxLatencyMillis(long addressBookSaveMaxLatencyMillis) {
+        checkArgument(addressBookSaveMaxLatencyMillis >= 0, MESSAGE_NEGATIVE_SAVE_DELAY);
+        this.addressBookSaveMaxLatencyMillis = addressBookSaveMaxLatencyMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +104,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookPrettyPrinted == otherUserPrefs.addressBookPrettyPrinted
+                && addressBookSaveDebounceMillis == otherUserPrefs.addressBookSaveDebounceMillis
+                && addressBookSaveMaxLatencyMillis == otherUserPrefs.addressBookSaveMaxLatencyMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookPrettyPrinted,
+                addressBookSaveDebounceMillis, addressBookSaveMaxLatencyMillis);
     }
 
     @Override
@@ -82,6 +121,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nPretty print data file : " + addressBookPrettyPrinted);
+        sb.append("\nData file save delay : " + addressBookSaveDebounceMillis + "ms, at most "
+                + addressBookSaveMaxLatencyMillis + "ms");
         return sb.toString();
     }
 
@@ -2,8 +2,10 @@ package seedu.address.model.appointment;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
@@ -18,6 +20,8 @@ public class Appointment implements Comparable<Appointment> {
     public final AppointmentDatetime appointmentDatetime;
     public final Person seller;
     public final Person buyer;
+    private final int hashCode; // computed once, as every field is immutable
+    private Set<String> keywords;
 
     /**
      * Constructs an {@code Appointment} with a buyer.
@@ -33,6 +37,7 @@ public class Appointment implements Comparable<Appointment> {
         this.appointmentDatetime = appointmentDatetime;
         this.seller = seller;
         this.buyer = buyer;
+        this.hashCode = Objects.hash(appointmentDatetime, seller, buyer);
     }
 
     /**
@@ -47,6 +52,7 @@ public class Appointment implements Comparable<Appointment> {
         this.appointmentDatetime = appointmentDatetime;
         this.seller = seller;
         this.buyer = null;
+        this.hashCode = Objects.hash(appointmentDatetime, seller, null);
     }
 
     public AppointmentDatetime getAppointmentDatetime() {
@@ -124,12 +130,27 @@ public class Appointment implements Comparable<Appointment> {
      * and appointment datetime.
      */
     public boolean containsKeyword(String keyword) {
-        return seller.containsKeywordInName(keyword)
-                || seller.containsKeywordInPhone(keyword)
-                || seller.containsKeywordInAddress(keyword)
-                || (buyer != null && buyer.containsKeywordInName(keyword))
-                || (buyer != null && buyer.containsKeywordInPhone(keyword))
-                || StringUtil.containsWordIgnoreCase(appointmentDatetime.toString(), keyword);
+        return getKeywords().contains(StringUtil.toLowerCaseWord(keyword));
+    }
+
+    /**
+     * Returns the lower case words that {@link #containsKeyword(String)} matches keywords against,
+     * computed on first use from the words cached by each field.
+     */
+    public Set<String> getKeywords() {
+        if (keywords == null) {
+            Set<String> words = new HashSet<>();
+            words.addAll(seller.getName().getKeywords());
+            words.addAll(seller.getPhone().getKeywords());
+            words.addAll(seller.getAddress().getKeywords());
+            if (buyer != null) {
+                words.addAll(buyer.getName().getKeywords());
+                words.addAll(buyer.getPhone().getKeywords());
+            }
+            words.addAll(appointmentDatetime.getKeywords());
+            keywords = Set.copyOf(words);
+        }
+        return keywords;
     }
 
     @Override
@@ -150,7 +171,8 @@ public class Appointment implements Comparable<Appointment> {
         }
 
         Appointment otherAppointment = (Appointment) other;
-        return appointmentDatetime.equals(otherAppointment.appointmentDatetime)
+        return hashCode == otherAppointment.hashCode
+                && appointmentDatetime.equals(otherAppointment.appointmentDatetime)
                 && seller.equals(otherAppointment.seller)
                 && Objects.equals(buyer, otherAppointment.buyer);
     }
@@ -162,7 +184,7 @@ public class Appointment implements Comparable<Appointment> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(appointmentDatetime, seller, buyer);
+        return hashCode;
     }
 
 }
@@ -1,9 +1,15 @@
 package seedu.address.model.appointment;
 
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -13,7 +19,12 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class AppointmentContainsKeywordsPredicate implements Predicate<Appointment> {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
     private final TimeFrame timeFrame;
+    private final LocalDateTime referenceTime;
+    private final LocalDateTime timeFrameStart;
+    private final LocalDateTime timeFrameEnd;
+    private final Function<String, Set<Appointment>> keywordIndex;
 
     /**
      * Constructs a predicate with keywords only.
@@ -21,8 +32,7 @@ public class AppointmentContainsKeywordsPredicate implements Predicate<Appointme
      * @param keywords The list of keywords to search for.
      */
     public AppointmentContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
-        this.timeFrame = null;
+        this(keywords, null);
     }
 
     /**
@@ -32,8 +42,40 @@ public class AppointmentContainsKeywordsPredicate implements Predicate<Appointme
      * @param timeFrame The timeframe to filter by.
      */
     public AppointmentContainsKeywordsPredicate(List<String> keywords, TimeFrame timeFrame) {
+        this(keywords, timeFrame, null, null);
+    }
+
+    private AppointmentContainsKeywordsPredicate(List<String> keywords, TimeFrame timeFrame,
+            LocalDateTime referenceTime, Function<String, Set<Appointment>> keywordIndex) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(StringUtil::toLowerCaseWord).toList();
         this.timeFrame = timeFrame;
+        this.referenceTime = referenceTime;
+        this.timeFrameStart = timeFrame == null || referenceTime == null ? null : timeFrame.getStart(referenceTime);
+        this.timeFrameEnd = timeFrame == null || referenceTime == null ? null : timeFrame.getEnd(referenceTime);
+        this.keywordIndex = keywordIndex;
+    }
+
+    /**
+     * Returns a copy of this predicate that measures its timeframe against {@code referenceTime}.
+     * The bounds of the timeframe are worked out once, so each appointment tested costs two datetime comparisons
+     * instead of a clock read. The returned predicate keeps using {@code referenceTime} however long it is kept,
+     * so a search filtered by it does not change as time passes.
+     */
+    public AppointmentContainsKeywordsPredicate atTime(LocalDateTime referenceTime) {
+        requireNonNull(referenceTime);
+        return new AppointmentContainsKeywordsPredicate(keywords, timeFrame, referenceTime, keywordIndex);
+    }
+
+    /**
+     * Returns a copy of this predicate that looks up the appointments matching each keyword in {@code keywordIndex},
+     * instead of searching the fields of every appointment tested.
+     *
+     * @param keywordIndex Returns the appointments with a word matching the given lower case keyword.
+     */
+    public AppointmentContainsKeywordsPredicate withIndex(Function<String, Set<Appointment>> keywordIndex) {
+        requireNonNull(keywordIndex);
+        return new AppointmentContainsKeywordsPredicate(keywords, timeFrame, referenceTime, keywordIndex);
     }
 
     @Override
@@ -43,22 +85,39 @@ public class AppointmentContainsKeywordsPredicate implements Predicate<Appointme
             return false;
         }
 
-        // Check keyword matching (if keywords are provided)
-        boolean matchesKeywords = keywords.isEmpty()
-                || keywords.stream().anyMatch(keyword -> matchesAnyField(appointment, keyword));
+        // Check timeframe matching first (if timeframe is provided), as it is a single datetime comparison
+        if (timeFrame != null && !matchesTimeFrame(appointment)) {
+            return false;
+        }
 
-        // Check timeframe matching (if timeframe is provided)
-        boolean matchesTimeFrame = timeFrame == null || timeFrame.matches(appointment);
+        // Check keyword matching (if keywords are provided)
+        if (lowerCaseKeywords.isEmpty()) {
+            return true;
+        }
+        for (String keyword : lowerCaseKeywords) {
+            if (matchesAnyField(appointment, keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        // Both conditions must be satisfied
-        return matchesKeywords && matchesTimeFrame;
+    private boolean matchesTimeFrame(Appointment appointment) {
+        if (referenceTime == null) {
+            return timeFrame.matches(appointment);
+        }
+        LocalDateTime datetime = appointment.getAppointmentDatetime().datetime;
+        return !datetime.isBefore(timeFrameStart) && datetime.isBefore(timeFrameEnd);
     }
 
     /**
-     * Checks if the keyword matches any field of the appointment.
+     * Checks if the lower case keyword matches any field of the appointment.
      */
-    private boolean matchesAnyField(Appointment appointment, String keyword) {
-        return appointment.containsKeyword(keyword);
+    private boolean matchesAnyField(Appointment appointment, String lowerCaseKeyword) {
+        if (keywordIndex != null) {
+            return keywordIndex.apply(lowerCaseKeyword).contains(appointment);
+        }
+        return appointment.getKeywords().contains(lowerCaseKeyword);
     }
 
     @Override
@@ -73,8 +132,10 @@ public class AppointmentContainsKeywordsPredicate implements Predicate<Appointme
         }
 
         AppointmentContainsKeywordsPredicate otherPredicate = (AppointmentContainsKeywordsPredicate) other;
+        // the indexes only change how the predicate is evaluated, not which appointments it matches
         return keywords.equals(otherPredicate.keywords)
-                && Objects.equals(timeFrame, otherPredicate.timeFrame);
+                && Objects.equals(timeFrame, otherPredicate.timeFrame)
+                && Objects.equals(referenceTime, otherPredicate.referenceTime);
     }
 
     @Override
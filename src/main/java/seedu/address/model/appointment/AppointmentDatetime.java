@@ -1,10 +1,12 @@
 package seedu.address.model.appointment;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents the datetime of an appointment.
@@ -16,6 +18,7 @@ public class AppointmentDatetime implements Comparable<AppointmentDatetime> {
             "Appointment Datetime must take a valid ISO 8601 datetime (e.g. 2025-01-01T00:00)";
 
     public final LocalDateTime datetime;
+    private Set<String> keywords;
 
     /**
      * Constructs an {@code AppointmentDatetime}.
@@ -24,8 +27,11 @@ public class AppointmentDatetime implements Comparable<AppointmentDatetime> {
      */
     public AppointmentDatetime(String datetimeStr) {
         requireNonNull(datetimeStr);
-        checkArgument(isValidDatetime(datetimeStr), MESSAGE_CONSTRAINTS);
-        datetime = LocalDateTime.parse(datetimeStr);
+        try {
+            datetime = LocalDateTime.parse(datetimeStr);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS, e);
+        }
     }
 
     /**
@@ -40,6 +46,16 @@ public class AppointmentDatetime implements Comparable<AppointmentDatetime> {
         return true;
     }
 
+    /**
+     * Returns the lower case words of this datetime, as formatted by {@link #toString()}, computed on first use.
+     */
+    public Set<String> getKeywords() {
+        if (keywords == null) {
+            keywords = StringUtil.toLowerCaseWords(datetime.toString());
+        }
+        return keywords;
+    }
+
     @Override
     public String toString() {
         return datetime.toString();
@@ -2,9 +2,7 @@ package seedu.address.model.appointment;
 
 import static java.util.Objects.requireNonNull;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 
 /**
  * Represents the timeframe filter for appointment searches.
@@ -43,31 +41,63 @@ public enum TimeFrame {
     }
 
     /**
-     * Tests if an appointment matches this timeframe.
+     * Tests if an appointment matches this timeframe, relative to the current time.
      *
      * @param appointment The appointment to test.
      * @return true if the appointment falls within this timeframe.
      */
     public boolean matches(Appointment appointment) {
+        return matches(appointment, LocalDateTime.now());
+    }
+
+    /**
+     * Tests if an appointment matches this timeframe, relative to {@code now}.
+     * Callers testing many appointments should read the clock once and pass the same {@code now} to every call.
+     *
+     * @param appointment The appointment to test.
+     * @param now The time that past, today and upcoming are measured against.
+     * @return true if the appointment falls within this timeframe.
+     */
+    public boolean matches(Appointment appointment, LocalDateTime now) {
         requireNonNull(appointment);
+        requireNonNull(now);
 
         LocalDateTime appointmentDateTime = appointment.getAppointmentDatetime().datetime;
         requireNonNull(appointmentDateTime);
 
-        LocalDate today = LocalDate.now();
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startOfToday = today.atStartOfDay();
-        LocalDateTime endOfToday = today.atTime(LocalTime.MAX);
+        return !appointmentDateTime.isBefore(getStart(now)) && appointmentDateTime.isBefore(getEnd(now));
+    }
+
+    /**
+     * Returns the earliest datetime in this timeframe, relative to {@code now}.
+     */
+    public LocalDateTime getStart(LocalDateTime now) {
+        requireNonNull(now);
 
         switch (this) {
-        case PAST:
-            return appointmentDateTime.isBefore(now);
         case TODAY:
-            return !appointmentDateTime.isBefore(startOfToday) && !appointmentDateTime.isAfter(endOfToday);
+            return now.toLocalDate().atStartOfDay();
         case UPCOMING:
-            return appointmentDateTime.isAfter(now);
+            return now.plusNanos(1);
         default:
-            return false;
+            return LocalDateTime.MIN;
+        }
+    }
+
+    /**
+     * Returns the datetime at which this timeframe ends, relative to {@code now}.
+     * The end itself is not in the timeframe.
+     */
+    public LocalDateTime getEnd(LocalDateTime now) {
+        requireNonNull(now);
+
+        switch (this) {
+        case PAST:
+            return now;
+        case TODAY:
+            return now.toLocalDate().plusDays(1).atStartOfDay();
+        default:
+            return LocalDateTime.MAX;
         }
     }
 
@@ -3,14 +3,28 @@ package seedu.address.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.BatchedObservableList;
+import seedu.address.model.util.KeywordIndex;
 
 /**
  * A list of appointments that enforces uniqueness between its elements and does not allow nulls.
@@ -19,20 +33,35 @@ import seedu.address.model.person.Person;
  * being added or updated is unique in terms of identity in the UniqueAppointmentList. The removal of an appointment
  * uses the same Appointment#equals(Appointment).
  *
+ * Appointments are also indexed by the storage identifiers of their seller and buyer, so that the appointments
+ * involving a person can be found without scanning the whole list. The index is kept in sync with the backing list by
+ * every mutating operation. A second index orders the appointments by datetime, so that the appointments within a
+ * range of datetimes can be found in logarithmic time plus the size of the result. A keyword index maps the words of
+ * each appointment to it, so that keyword searches do not need to re-split every field of every appointment.
+ * The position of each appointment in the backing list is also kept, so that an appointment can be removed or replaced
+ * without searching the list for it.
+ * The indexes are updated before the backing list, so that listeners of the list observe them up to date.
+ * Operations that change several appointments at once report them to listeners as a single change.
+ *
  * Supports a minimal set of list operations.
  */
 public class UniqueAppointmentList implements Iterable<Appointment> {
 
-    private final ObservableList<Appointment> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Appointment> internalList = new BatchedObservableList<>();
     private final ObservableList<Appointment> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Set<Appointment>> appointmentsByPerson = new HashMap<>();
+    private final NavigableMap<LocalDateTime, Set<Appointment>> appointmentsByDatetime = new TreeMap<>();
+    private final KeywordIndex<Appointment> keywordIndex = new KeywordIndex<>();
+    private final Map<Appointment, Integer> positions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent appointment as the given argument.
      */
     public boolean contains(Appointment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return appointmentsByPerson.getOrDefault(toCheck.getSellerStorageIdentifier(), Collections.emptySet())
+                .contains(toCheck);
     }
 
     /**
@@ -44,6 +73,8 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         if (contains(toAdd)) {
             throw new DuplicateAppointmentException();
         }
+        index(toAdd);
+        positions.put(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
@@ -53,9 +84,16 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public void remove(Appointment toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Integer index = positions.get(toRemove);
+        if (index == null) {
             throw new AppointmentNotFoundException();
         }
+        unindex(internalList.get(index));
+        positions.remove(toRemove);
+        for (int i = index + 1; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i - 1);
+        }
+        internalList.remove((int) index);
     }
 
     /**
@@ -67,8 +105,8 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
     public void setAppointment(Appointment target, Appointment editedAppointment) {
         requireAllNonNull(target, editedAppointment);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Integer index = positions.get(target);
+        if (index == null) {
             throw new AppointmentNotFoundException();
         }
 
@@ -76,11 +114,16 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
             throw new DuplicateAppointmentException();
         }
 
+        unindex(internalList.get(index));
+        index(editedAppointment);
+        positions.remove(target);
+        positions.put(editedAppointment, index);
         internalList.set(index, editedAppointment);
     }
 
     public void setAppointments(UniqueAppointmentList replacement) {
         requireNonNull(replacement);
+        rebuildIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,26 +133,124 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public void setAppointments(List<Appointment> appointments) {
         requireAllNonNull(appointments);
-        if (!appointmentsAreUnique(appointments)) {
-            throw new DuplicateAppointmentException();
-        }
+        requireUnique(appointments);
 
+        rebuildIndex(appointments);
         internalList.setAll(appointments);
     }
 
     /**
-     * Updates all appointments involving {@code target} to reference {@code editedPerson} instead.
+     * Returns the appointments in the list that involve {@code person} as either the seller or the buyer.
+     */
+    public List<Appointment> getAppointmentsWithPerson(Person person) {
+        requireNonNull(person);
+
+        List<Appointment> appointmentsWithPerson = new ArrayList<>();
+        for (Appointment appointment : appointmentsByPerson.getOrDefault(person.getStorageIdentifier(),
+                Collections.emptySet())) {
+            if (appointment.isPersonSeller(person) || appointment.isPersonBuyer(person)) {
+                appointmentsWithPerson.add(appointment);
+            }
+        }
+        return appointmentsWithPerson;
+    }
+
+    /**
+     * Returns an unmodifiable view of the appointments in the list whose datetimes fall between {@code start} and
+     * {@code end}, in chronological order. The view reflects later changes to the list, and checking whether it
+     * contains an appointment only looks up the appointment's datetime.
+     *
+     * @param start Earliest datetime to include.
+     * @param startInclusive Whether appointments at exactly {@code start} are included.
+     * @param end Latest datetime to include.
+     * @param endInclusive Whether appointments at exactly {@code end} are included.
+     */
+    public Collection<Appointment> getAppointmentsBetween(LocalDateTime start, boolean startInclusive,
+            LocalDateTime end, boolean endInclusive) {
+        requireAllNonNull(start, end);
+        if (start.isAfter(end)) {
+            return Collections.emptyList();
+        }
+
+        return new AppointmentsBetween(appointmentsByDatetime.subMap(start, startInclusive, end, endInclusive));
+    }
+
+    /**
+     * Returns an unmodifiable view of the appointments in the list with a word matching {@code keyword}, ignoring case.
+     *
+     * @see Appointment#containsKeyword(String)
+     */
+    public Set<Appointment> getAppointmentsWithKeyword(String keyword) {
+        requireNonNull(keyword);
+        return keywordIndex.get(keyword);
+    }
+
+    /**
+     * Removes all appointments in the list that involve {@code person} as either the seller or the buyer.
+     *
+     * @return The appointments that were removed.
+     */
+    public List<Appointment> removeAppointmentsWithPerson(Person person) {
+        requireNonNull(person);
+
+        List<Appointment> toRemove = getAppointmentsWithPerson(person);
+        if (toRemove.isEmpty()) {
+            return toRemove;
+        }
+
+        int firstIndex = internalList.size();
+        for (Appointment appointment : toRemove) {
+            unindex(appointment);
+            firstIndex = Math.min(firstIndex, positions.remove(appointment));
+        }
+        internalList.removeAll(new HashSet<>(toRemove));
+        for (int i = firstIndex; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+        return toRemove;
+    }
+
+    /**
+     * Returns the appointments involving {@code target}, mapped to the appointments that would replace them if
+     * {@code target} were replaced by {@code editedPerson}. The list is not modified.
      *
      * @param target Person object to be replaced.
      * @param editedPerson Person object to replace with.
+     * @throws DuplicateAppointmentException if an updated appointment would be the same as another existing
+     *     appointment in the list.
      */
-    public void updateAppointmentsWithEditedPerson(Person target, Person editedPerson) {
+    public Map<Appointment, Appointment> getAppointmentsUpdatedWithEditedPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        internalList.stream()
-                .filter(appointment -> appointment.isPersonSeller(target) || appointment.isPersonBuyer(target))
-                .forEach(appointment ->
-                        setAppointment(appointment, appointment.updatedWithEditedPerson(target, editedPerson)));
+        Map<Appointment, Appointment> updatedAppointments = new HashMap<>();
+        for (Appointment appointment : getAppointmentsWithPerson(target)) {
+            Appointment updatedAppointment = appointment.updatedWithEditedPerson(target, editedPerson);
+            if (!appointment.equals(updatedAppointment) && contains(updatedAppointment)) {
+                throw new DuplicateAppointmentException();
+            }
+            updatedAppointments.put(appointment, updatedAppointment);
+        }
+        return updatedAppointments;
+    }
+
+    /**
+     * Replaces each appointment in the keys of {@code replacements} with the appointment it is mapped to, in place
+     * and as one change. Every key must exist in the list, and no value may be the same as another existing
+     * appointment in the list, as checked by {@link #getAppointmentsUpdatedWithEditedPerson(Person, Person)}.
+     */
+    public void setAppointments(Map<Appointment, Appointment> replacements) {
+        requireNonNull(replacements);
+        if (replacements.isEmpty()) {
+            return;
+        }
+
+        replacements.keySet().forEach(this::unindex);
+        replacements.values().forEach(this::index);
+        internalList.applyChanges(() -> replacements.forEach((target, replacement) -> {
+            int index = positions.remove(target);
+            positions.put(replacement, index);
+            internalList.set(index, replacement);
+        }));
     }
 
     /**
@@ -150,16 +291,106 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
     }
 
     /**
-     * Returns true if {@code appointments} contains only unique appointments.
+     * Adds {@code appointment} to the index under the storage identifiers of its seller and buyer, and to the datetime
+     * and keyword indexes.
+     */
+    private void index(Appointment appointment) {
+        appointmentsByPerson.computeIfAbsent(appointment.getSellerStorageIdentifier(), unused -> new HashSet<>())
+                .add(appointment);
+        appointment.getBuyerStorageIdentifier().ifPresent(buyerIdentifier ->
+                appointmentsByPerson.computeIfAbsent(buyerIdentifier, unused -> new HashSet<>()).add(appointment));
+        appointmentsByDatetime.computeIfAbsent(appointment.getAppointmentDatetime().datetime,
+                unused -> new HashSet<>()).add(appointment);
+        keywordIndex.add(appointment, appointment.getKeywords());
+    }
+
+    /**
+     * Removes {@code appointment} from the indexes.
+     */
+    private void unindex(Appointment appointment) {
+        unindex(appointmentsByPerson, appointment.getSellerStorageIdentifier(), appointment);
+        appointment.getBuyerStorageIdentifier().ifPresent(buyerIdentifier ->
+                unindex(appointmentsByPerson, buyerIdentifier, appointment));
+        unindex(appointmentsByDatetime, appointment.getAppointmentDatetime().datetime, appointment);
+        keywordIndex.remove(appointment, appointment.getKeywords());
+    }
+
+    private static <K> void unindex(Map<K, Set<Appointment>> index, K key, Appointment appointment) {
+        Set<Appointment> appointments = index.get(key);
+        if (appointments == null) {
+            return;
+        }
+
+        appointments.remove(appointment);
+        if (appointments.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Rebuilds the indexes from {@code appointments}, which are about to replace the contents of the backing list.
+     */
+    private void rebuildIndex(List<Appointment> appointments) {
+        appointmentsByPerson.clear();
+        appointmentsByDatetime.clear();
+        keywordIndex.clear();
+        positions.clear();
+        appointments.forEach(this::index);
+        for (int i = 0; i < appointments.size(); i++) {
+            positions.put(appointments.get(i), i);
+        }
+    }
+
+    /**
+     * Validates that {@code appointments} contains only unique appointments, in a single pass.
+     *
+     * @throws DuplicateAppointmentException listing every duplicated appointment if {@code appointments} is not
+     *     unique.
      */
-    private boolean appointmentsAreUnique(List<Appointment> appointments) {
-        for (int i = 0; i < appointments.size() - 1; i++) {
-            for (int j = i + 1; j < appointments.size(); j++) {
-                if (appointments.get(i).equals(appointments.get(j))) {
-                    return false;
-                }
+    private static void requireUnique(List<Appointment> appointments) {
+        Set<Appointment> seen = new HashSet<>();
+        Set<Appointment> duplicates = new LinkedHashSet<>();
+        for (Appointment appointment : appointments) {
+            if (!seen.add(appointment)) {
+                duplicates.add(appointment);
             }
         }
-        return true;
+
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateAppointmentException(duplicates);
+        }
+    }
+
+    /**
+     * An unmodifiable view of the appointments in a range of the datetime index, in chronological order.
+     */
+    private static class AppointmentsBetween extends AbstractCollection<Appointment> {
+
+        private final NavigableMap<LocalDateTime, Set<Appointment>> appointmentsByDatetime;
+
+        AppointmentsBetween(NavigableMap<LocalDateTime, Set<Appointment>> appointmentsByDatetime) {
+            this.appointmentsByDatetime = appointmentsByDatetime;
+        }
+
+        @Override
+        public Iterator<Appointment> iterator() {
+            return appointmentsByDatetime.values().stream().flatMap(Set::stream).iterator();
+        }
+
+        @Override
+        public int size() {
+            return appointmentsByDatetime.values().stream().mapToInt(Set::size).sum();
+        }
+
+        @Override
+        public boolean contains(Object other) {
+            if (!(other instanceof Appointment)) {
+                return false;
+            }
+
+            Set<Appointment> appointments =
+                    appointmentsByDatetime.get(((Appointment) other).getAppointmentDatetime().datetime);
+            return appointments != null && appointments.contains(other);
+        }
     }
 }
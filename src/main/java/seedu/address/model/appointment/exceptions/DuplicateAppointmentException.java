@@ -1,5 +1,8 @@
 package seedu.address.model.appointment.exceptions;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
 /**
  * Signals that the operation will result in duplicate Appointment
  */
@@ -7,4 +10,13 @@ public class DuplicateAppointmentException extends RuntimeException {
     public DuplicateAppointmentException() {
         super("Operation would result in duplicate appointments");
     }
+
+    /**
+     * Constructs a {@code DuplicateAppointmentException} listing the appointments that are duplicated.
+     */
+    public DuplicateAppointmentException(Collection<?> duplicateAppointments) {
+        super("Operation would result in duplicate appointments: " + duplicateAppointments.stream()
+                .map(Object::toString)
+                .collect(Collectors.joining("; ")));
+    }
 }
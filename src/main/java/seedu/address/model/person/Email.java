@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -31,8 +36,10 @@ public class Email {
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
+    private Set<String> keywords;
 
     /**
      * Constructs an {@code Email}.
@@ -49,7 +56,17 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the lower case words of this email, computed on first use.
+     */
+    public Set<String> getKeywords() {
+        if (keywords == null) {
+            keywords = StringUtil.toLowerCaseWords(value);
+        }
+        return keywords;
     }
 
     @Override
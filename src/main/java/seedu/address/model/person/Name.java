@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -16,8 +21,10 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^(?!\\s*$).+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullName;
+    private Set<String> keywords;
 
     /**
      * Constructs a {@code Name}.
@@ -35,10 +42,20 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
+    /**
+     * Returns the lower case words of this name, computed on first use.
+     */
+    public Set<String> getKeywords() {
+        if (keywords == null) {
+            keywords = StringUtil.toLowerCaseWords(fullName);
+        }
+        return keywords;
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -2,8 +2,12 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
 
@@ -27,7 +31,9 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
+    private final int hashCode; // computed once, as every field is immutable
+    private Set<String> keywords;
 
     /**
      * Every field must be present and not null.
@@ -39,7 +45,9 @@ public class Person {
         this.email = email;
         this.role = role;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = TagArraySet.copyOf(tags);
+        // use this method for custom fields hashing instead of implementing your own
+        this.hashCode = Objects.hash(name, phone, email, role, address, this.tags);
     }
 
     public Name getName() {
@@ -82,7 +90,7 @@ public class Person {
 
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * if modification is attempted. The tags are iterated in order of their names.
      */
     public Set<Tag> getTags() {
         return Collections.unmodifiableSet(tags);
@@ -93,34 +101,49 @@ public class Person {
      * Searches across name, role, address, property type, email, phone, and tags.
      */
     public boolean containsKeyword(String keyword) {
-        return StringUtil.containsWordIgnoreCase(name.fullName, keyword)
-                || StringUtil.containsWordIgnoreCase(role.value, keyword)
-                || StringUtil.containsWordIgnoreCase(address.value, keyword)
-                || StringUtil.containsWordIgnoreCase(address.getAddressType().toString(), keyword)
-                || StringUtil.containsWordIgnoreCase(email.value, keyword)
-                || StringUtil.containsWordIgnoreCase(phone.value, keyword)
-                || tags.stream().anyMatch(tag -> StringUtil.containsWordIgnoreCase(tag.tagName, keyword));
+        return getKeywords().contains(StringUtil.toLowerCaseWord(keyword));
+    }
+
+    /**
+     * Returns the lower case words that {@link #containsKeyword(String)} matches keywords against,
+     * computed on first use from the words cached by each field.
+     */
+    public Set<String> getKeywords() {
+        if (keywords == null) {
+            Set<String> words = new HashSet<>();
+            words.addAll(name.getKeywords());
+            if (role != null) {
+                words.addAll(role.getKeywords());
+            }
+            words.addAll(address.getKeywords());
+            words.addAll(address.getAddressType().getKeywords());
+            words.addAll(email.getKeywords());
+            words.addAll(phone.getKeywords());
+            tags.forEach(tag -> words.addAll(tag.getKeywords()));
+            keywords = Set.copyOf(words);
+        }
+        return keywords;
     }
 
     /**
      * Returns true if this person's name contains the given keyword (case-insensitive).
      */
     public boolean containsKeywordInName(String keyword) {
-        return StringUtil.containsWordIgnoreCase(name.fullName, keyword);
+        return name.getKeywords().contains(StringUtil.toLowerCaseWord(keyword));
     }
 
     /**
      * Returns true if this person's address contains the given keyword (case-insensitive).
      */
     public boolean containsKeywordInAddress(String keyword) {
-        return StringUtil.containsWordIgnoreCase(address.value, keyword);
+        return address.getKeywords().contains(StringUtil.toLowerCaseWord(keyword));
     }
 
     /**
      * Returns true if this person's phone number contains the given keyword (case-insensitive).
      */
     public boolean containsKeywordInPhone(String keyword) {
-        return StringUtil.containsWordIgnoreCase(phone.value, keyword);
+        return phone.getKeywords().contains(StringUtil.toLowerCaseWord(keyword));
     }
 
     /**
@@ -161,7 +184,8 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hashCode == otherPerson.hashCode
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
@@ -171,8 +195,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, role, address, tags);
+        return hashCode;
     }
 
     @Override
@@ -187,4 +210,50 @@ public class Person {
                 .toString();
     }
 
+    /**
+     * An immutable set of tags held in an array sorted by tag name.
+     * A person has only a few tags, so an array takes a fraction of the memory of a {@code HashSet}, and a linear
+     * search for a tag is as fast as hashing it. Because of the sorting, tags are iterated, shown and saved in order
+     * of their names, where a {@code HashSet} left the order unspecified.
+     */
+    private static final class TagArraySet extends AbstractSet<Tag> {
+        private static final TagArraySet EMPTY = new TagArraySet(new Tag[0]);
+        private static final Comparator<Tag> TAG_NAME_ORDER = Comparator.comparing(tag -> tag.tagName);
+
+        private final Tag[] tags;
+
+        private TagArraySet(Tag[] tags) {
+            this.tags = tags;
+        }
+
+        static TagArraySet copyOf(Set<Tag> tags) {
+            if (tags.isEmpty()) {
+                return EMPTY;
+            }
+            Tag[] sortedTags = tags.toArray(new Tag[0]);
+            Arrays.sort(sortedTags, TAG_NAME_ORDER);
+            return new TagArraySet(sortedTags);
+        }
+
+        @Override
+        public Iterator<Tag> iterator() {
+            return Arrays.asList(tags).iterator();
+        }
+
+        @Override
+        public int size() {
+            return tags.length;
+        }
+
+        @Override
+        public boolean contains(Object other) {
+            for (Tag tag : tags) {
+                if (tag.equals(other)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
 }
@@ -1,8 +1,13 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -11,22 +16,48 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class PersonContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
+    private final Function<String, Set<Person>> keywordIndex;
 
     public PersonContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, null);
+    }
+
+    private PersonContainsKeywordsPredicate(List<String> keywords, Function<String, Set<Person>> keywordIndex) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(StringUtil::toLowerCaseWord).toList();
+        this.keywordIndex = keywordIndex;
+    }
+
+    /**
+     * Returns a copy of this predicate that looks up the persons matching each keyword in {@code keywordIndex},
+     * instead of searching the fields of every person tested.
+     *
+     * @param keywordIndex Returns the persons with a word matching the given lower case keyword.
+     */
+    public PersonContainsKeywordsPredicate withIndex(Function<String, Set<Person>> keywordIndex) {
+        requireNonNull(keywordIndex);
+        return new PersonContainsKeywordsPredicate(keywords, keywordIndex);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> matchesAnyField(person, keyword));
+        for (String keyword : lowerCaseKeywords) {
+            if (matchesAnyField(person, keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
-     * Checks if the keyword matches any field of the person.
+     * Checks if the lower case keyword matches any field of the person.
      */
-    private boolean matchesAnyField(Person person, String keyword) {
-        return person.containsKeyword(keyword);
+    private boolean matchesAnyField(Person person, String lowerCaseKeyword) {
+        if (keywordIndex != null) {
+            return keywordIndex.apply(lowerCaseKeyword).contains(person);
+        }
+        return person.getKeywords().contains(lowerCaseKeyword);
     }
 
     @Override
@@ -41,6 +72,7 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         PersonContainsKeywordsPredicate otherPersonContainsKeywordsPredicate = (PersonContainsKeywordsPredicate) other;
+        // the keyword index only changes how the predicate is evaluated, not which persons it matches
         return keywords.equals(otherPersonContainsKeywordsPredicate.keywords);
     }
 
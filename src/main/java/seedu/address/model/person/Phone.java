@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -12,7 +17,10 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should contain at least 3 digits, and may include '+', '(', ')', '-' or spaces";
     public static final String VALIDATION_REGEX = "^(?=(?:.*\\d){3,})[+\\d()\\s-]+$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
+    private Set<String> keywords;
 
     /**
      * Constructs a {@code Phone}.
@@ -29,7 +37,27 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int digitCount = 0;
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digitCount++;
+            } else if (c != ' ' && c != '+' && c != '-' && c != '(' && c != ')') {
+                // other whitespace is rare enough to leave to the full pattern
+                return VALIDATION_PATTERN.matcher(test).matches();
+            }
+        }
+        return digitCount >= 3;
+    }
+
+    /**
+     * Returns the lower case words of this phone number, computed on first use.
+     */
+    public Set<String> getKeywords() {
+        if (keywords == null) {
+            keywords = StringUtil.toLowerCaseWords(value);
+        }
+        return keywords;
     }
 
     @Override
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's role in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidRole(String)}
@@ -15,7 +19,11 @@ public class Role {
     public static final String MESSAGE_CONSTRAINTS = "Role must be either '%s' or '%s'.".formatted(BUYER, SELLER);
     public static final String VALIDATION_REGEX = "(?i)(%s|%s)".formatted(BUYER, SELLER);
 
+    private static final Role BUYER_ROLE = new Role(BUYER);
+    private static final Role SELLER_ROLE = new Role(SELLER);
+
     public final String value;
+    private Set<String> keywords;
 
     /**
      * Constructs an {@code Role}.
@@ -24,15 +32,58 @@ public class Role {
      */
     public Role(String role) {
         requireNonNull(role);
-        checkArgument(isValidRole(role), MESSAGE_CONSTRAINTS);
-        value = role.toLowerCase();
+        value = toCanonicalRole(role);
+        checkArgument(value != null, MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Returns the shared {@code Role} for {@code role}.
+     * Prefer this to the constructor when creating many roles, as there are only two distinct ones.
+     *
+     * @param role A valid role for the clients.
+     */
+    public static Role of(String role) {
+        requireNonNull(role);
+        String canonicalRole = toCanonicalRole(role);
+        checkArgument(canonicalRole != null, MESSAGE_CONSTRAINTS);
+        return canonicalRole == BUYER ? BUYER_ROLE : SELLER_ROLE;
     }
 
     /**
      * Returns if a given string is a valid role.
      */
     public static boolean isValidRole(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return toCanonicalRole(test) != null;
+    }
+
+    /**
+     * Returns {@code BUYER} or {@code SELLER} if {@code test} is one of them, ignoring case as
+     * {@code VALIDATION_REGEX} does, or null otherwise.
+     */
+    private static String toCanonicalRole(String test) {
+        if (equalsIgnoreAsciiCase(test, BUYER)) {
+            return BUYER;
+        }
+        if (equalsIgnoreAsciiCase(test, SELLER)) {
+            return SELLER;
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if {@code test} is {@code lowerCaseWord}, ignoring the case of ASCII letters only.
+     * {@code lowerCaseWord} must consist of lower case ASCII letters.
+     */
+    private static boolean equalsIgnoreAsciiCase(String test, String lowerCaseWord) {
+        if (test.length() != lowerCaseWord.length()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if ((test.charAt(i) | 0x20) != lowerCaseWord.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -53,6 +104,16 @@ public class Role {
         return value.equals(SELLER);
     }
 
+    /**
+     * Returns the lower case words of this role, computed on first use.
+     */
+    public Set<String> getKeywords() {
+        if (keywords == null) {
+            keywords = StringUtil.toLowerCaseWords(value);
+        }
+        return keywords;
+    }
+
     @Override
     public String toString() {
         return value;
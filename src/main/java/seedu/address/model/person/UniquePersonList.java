@@ -3,13 +3,18 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.KeywordIndex;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +23,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are also indexed by their storage identifier, so that membership checks and lookups by identifier do not
+ * need to scan the whole list. A keyword index maps the words of each person to it, so that keyword searches do not
+ * need to re-split every field of every person. The indexes are kept in sync with the backing list by every mutating
+ * operation, and are updated before the backing list so that listeners of the list observe them up to date.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#hasSameIdentifier(Person)
@@ -27,13 +37,35 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Map<String, Person> identifierIndex = new HashMap<>();
+    private final KeywordIndex<Person> keywordIndex = new KeywordIndex<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::hasSameIdentifier);
+        return identifierIndex.containsKey(toCheck.getStorageIdentifier());
+    }
+
+    /**
+     * Returns the person in the list with the given storage identifier, or null if there is no such person.
+     *
+     * @param storageIdentifier Storage identifier to search for.
+     * @see Person#getStorageIdentifier()
+     */
+    public Person findByStorageIdentifier(String storageIdentifier) {
+        return identifierIndex.get(storageIdentifier);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons in the list with a word matching {@code keyword}, ignoring case.
+     *
+     * @see Person#containsKeyword(String)
+     */
+    public Set<Person> getPersonsWithKeyword(String keyword) {
+        requireNonNull(keyword);
+        return keywordIndex.get(keyword);
     }
 
     /**
@@ -45,9 +77,35 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        identifierIndex.put(toAdd.getStorageIdentifier(), toAdd);
+        keywordIndex.add(toAdd, toAdd.getKeywords());
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code persons} to the end of the list, in order, as a single change.
+     * None of {@code persons} may already exist in the list, and {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException listing every duplicated identifier, in which case the list is unchanged.
+     */
+    public void addAll(List<Person> persons) {
+        requireAllNonNull(persons);
+        Map<String, Person> addedIndex = indexByStorageIdentifier(persons);
+        Set<String> duplicateIdentifiers = new LinkedHashSet<>();
+        for (String identifier : addedIndex.keySet()) {
+            if (identifierIndex.containsKey(identifier)) {
+                duplicateIdentifiers.add(identifier);
+            }
+        }
+        if (!duplicateIdentifiers.isEmpty()) {
+            throw new DuplicatePersonException(duplicateIdentifiers);
+        }
+
+        identifierIndex.putAll(addedIndex);
+        persons.forEach(person -> keywordIndex.add(person, person.getKeywords()));
+        internalList.addAll(persons);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -65,6 +123,11 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        Person storedTarget = internalList.get(index);
+        identifierIndex.remove(storedTarget.getStorageIdentifier());
+        identifierIndex.put(editedPerson.getStorageIdentifier(), editedPerson);
+        keywordIndex.remove(storedTarget, storedTarget.getKeywords());
+        keywordIndex.add(editedPerson, editedPerson.getKeywords());
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +137,21 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person storedPerson = internalList.get(index);
+        identifierIndex.remove(storedPerson.getStorageIdentifier());
+        keywordIndex.remove(storedPerson, storedPerson.getKeywords());
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        identifierIndex = new HashMap<>(replacement.identifierIndex);
+        rebuildKeywordIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,10 +161,8 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
-
+        identifierIndex = indexByStorageIdentifier(persons);
+        rebuildKeywordIndex(persons);
         internalList.setAll(persons);
     }
 
@@ -135,16 +204,31 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Rebuilds the keyword index from {@code persons}, which are about to replace the contents of the backing list.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).hasSameIdentifier(persons.get(j))) {
-                    return false;
-                }
+    private void rebuildKeywordIndex(List<Person> persons) {
+        keywordIndex.clear();
+        persons.forEach(person -> keywordIndex.add(person, person.getKeywords()));
+    }
+
+    /**
+     * Returns {@code persons} indexed by their storage identifiers, validating that they are unique in a single pass.
+     *
+     * @throws DuplicatePersonException listing every duplicated identifier if {@code persons} is not unique.
+     */
+    private static Map<String, Person> indexByStorageIdentifier(List<Person> persons) {
+        Map<String, Person> index = new HashMap<>();
+        Set<String> duplicateIdentifiers = new LinkedHashSet<>();
+        for (Person person : persons) {
+            String identifier = person.getStorageIdentifier();
+            if (index.putIfAbsent(identifier, person) != null) {
+                duplicateIdentifiers.add(identifier);
             }
         }
-        return true;
+
+        if (!duplicateIdentifiers.isEmpty()) {
+            throw new DuplicatePersonException(duplicateIdentifiers);
+        }
+        return index;
     }
 }
@@ -3,6 +3,11 @@ package seedu.address.model.person.address;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -17,9 +22,11 @@ public class Address {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].{0,199}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
     public final AddressType addressType;
+    private Set<String> keywords;
 
     /**
      * Constructs an {@code Address}.
@@ -37,13 +44,23 @@ public class Address {
      * Returns true if a given string is a valid address.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public AddressType getAddressType() {
         return this.addressType;
     }
 
+    /**
+     * Returns the lower case words of this address, excluding its address type, computed on first use.
+     */
+    public Set<String> getKeywords() {
+        if (keywords == null) {
+            keywords = StringUtil.toLowerCaseWords(value);
+        }
+        return keywords;
+    }
+
     @Override
     public String toString() {
         return value + ", " + addressType;
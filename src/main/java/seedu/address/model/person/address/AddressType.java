@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Arrays;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents an Address's AddressType in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidType(String)}
@@ -16,7 +19,12 @@ public class AddressType {
             "Property type should strictly follow any one of these given types: \n"
                     + Arrays.stream(PropertyType.values()).map(Enum::name).collect(Collectors.joining("\n"));
 
+    private static final AddressType[] SHARED_ADDRESS_TYPES = Arrays.stream(PropertyType.values())
+            .map(AddressType::new)
+            .toArray(AddressType[]::new);
+
     public final PropertyType type;
+    private Set<String> keywords;
 
     /**
      * Constructs a {@code AddressType}.
@@ -29,6 +37,22 @@ public class AddressType {
         this.type = PropertyType.valueOf(type.toUpperCase()); // Set the type to all uppercase to match enum constant
     }
 
+    private AddressType(PropertyType type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns the shared {@code AddressType} for {@code type}.
+     * Prefer this to the constructor when creating many address types, as there is one per {@code PropertyType}.
+     *
+     * @param type A valid address type.
+     */
+    public static AddressType of(String type) {
+        requireNonNull(type);
+        checkArgument(isValidType(type), MESSAGE_CONSTRAINTS);
+        return SHARED_ADDRESS_TYPES[PropertyType.valueOf(type.toUpperCase()).ordinal()];
+    }
+
     /**
      * Returns true if a given string is a valid address type.
      */
@@ -38,6 +62,16 @@ public class AddressType {
     }
 
 
+    /**
+     * Returns the lower case words of this address type, computed on first use.
+     */
+    public Set<String> getKeywords() {
+        if (keywords == null) {
+            keywords = StringUtil.toLowerCaseWords(type.toString());
+        }
+        return keywords;
+    }
+
     @Override
     public String toString() {
         return type.toString();
@@ -1,5 +1,7 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collection;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
@@ -8,4 +10,11 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} listing the storage identifiers that are duplicated.
+     */
+    public DuplicatePersonException(Collection<String> duplicateIdentifiers) {
+        super("Operation would result in duplicate persons: " + String.join(", ", duplicateIdentifiers));
+    }
 }
@@ -3,6 +3,15 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -11,8 +20,14 @@ public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    // The pool holds its tags weakly, so a tag no longer used by any person is collected along with its entry
+    private static final ConcurrentMap<String, SharedTag> SHARED_TAGS = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Tag> UNUSED_TAGS = new ReferenceQueue<>();
 
     public final String tagName;
+    private Set<String> keywords;
 
     /**
      * Constructs a {@code Tag}.
@@ -25,11 +40,49 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}, creating it if no tag of that name is in use.
+     * Prefer this to the constructor when creating many tags, so that persons with the same tag share one instance.
+     * Shared tags are only kept while they are in use, so the pool does not grow with every tag name ever seen.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        removeUnusedTags();
+        while (true) {
+            SharedTag sharedTag = SHARED_TAGS.get(tagName);
+            Tag tag = sharedTag == null ? null : sharedTag.get();
+            if (tag != null) {
+                return tag;
+            }
+
+            Tag newTag = new Tag(tagName);
+            SharedTag newSharedTag = new SharedTag(newTag);
+            boolean isShared = sharedTag == null
+                    ? SHARED_TAGS.putIfAbsent(tagName, newSharedTag) == null
+                    : SHARED_TAGS.replace(tagName, sharedTag, newSharedTag);
+            if (isShared) {
+                return newTag;
+            }
+        }
+    }
+
+    /**
+     * Removes the pool entries of the tags that have been collected.
+     */
+    private static void removeUnusedTags() {
+        SharedTag unusedTag;
+        while ((unusedTag = (SharedTag) UNUSED_TAGS.poll()) != null) {
+            SHARED_TAGS.remove(unusedTag.tagName, unusedTag);
+        }
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -52,6 +105,16 @@ public class Tag {
         return tagName.hashCode();
     }
 
+    /**
+     * Returns the lower case words of this tag name, computed on first use.
+     */
+    public Set<String> getKeywords() {
+        if (keywords == null) {
+            keywords = StringUtil.toLowerCaseWords(tagName);
+        }
+        return keywords;
+    }
+
     /**
      * Format state as text for viewing.
      */
@@ -59,4 +122,17 @@ public class Tag {
         return '[' + tagName + ']';
     }
 
+    /**
+     * A weak reference to a shared tag, which remembers the tag name so that its pool entry can be removed once the
+     * tag has been collected.
+     */
+    private static class SharedTag extends WeakReference<Tag> {
+        private final String tagName;
+
+        SharedTag(Tag tag) {
+            super(tag, UNUSED_TAGS);
+            this.tagName = tag.tagName;
+        }
+    }
+
 }
@@ -0,0 +1,59 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose listeners can be told about several modifications as a single change.
+ * Modifications made within {@link #applyChanges(Runnable)} are collected and reported once the changes are done,
+ * so views built on the list, such as filtered and sorted lists, update once per batch instead of once per element.
+ *
+ * @param <E> Type of the elements in the list.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Runs {@code changes}, which may modify this list any number of times, and reports all of the modifications to
+     * the list's listeners as one change once {@code changes} returns or throws.
+     */
+    public void applyChanges(Runnable changes) {
+        requireNonNull(changes);
+        beginChange();
+        try {
+            changes.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
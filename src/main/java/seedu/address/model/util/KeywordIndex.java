@@ -0,0 +1,75 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from lower case words to the items that contain them.
+ * Items are held by identity, so an item is only found through the exact instance that was indexed, and
+ * membership checks do not need to compute the item's hash code.
+ *
+ * @param <T> Type of the items being indexed.
+ */
+public class KeywordIndex<T> {
+
+    private final Map<String, Set<T>> itemsByWord = new HashMap<>();
+    private final Map<String, Set<T>> unmodifiableItemsByWord = new HashMap<>();
+
+    /**
+     * Indexes {@code item} under each of the lower case {@code words}.
+     */
+    public void add(T item, Collection<String> words) {
+        requireNonNull(item);
+        for (String word : words) {
+            Set<T> items = itemsByWord.get(word);
+            if (items == null) {
+                items = Collections.newSetFromMap(new IdentityHashMap<>());
+                itemsByWord.put(word, items);
+                unmodifiableItemsByWord.put(word, Collections.unmodifiableSet(items));
+            }
+            items.add(item);
+        }
+    }
+
+    /**
+     * Removes {@code item} from each of the lower case {@code words} it was indexed under.
+     */
+    public void remove(T item, Collection<String> words) {
+        requireNonNull(item);
+        for (String word : words) {
+            Set<T> items = itemsByWord.get(word);
+            if (items == null) {
+                continue;
+            }
+            items.remove(item);
+            if (items.isEmpty()) {
+                itemsByWord.remove(word);
+                unmodifiableItemsByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Removes every item from the index.
+     */
+    public void clear() {
+        itemsByWord.clear();
+        unmodifiableItemsByWord.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the items containing {@code keyword}, ignoring case.
+     * Looking up a keyword that is already trimmed and in lower case does not allocate.
+     */
+    public Set<T> get(String keyword) {
+        return unmodifiableItemsByWord.getOrDefault(StringUtil.toLowerCase(keyword.trim()), Collections.emptySet());
+    }
+}
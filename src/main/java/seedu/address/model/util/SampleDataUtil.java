@@ -101,7 +101,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 }
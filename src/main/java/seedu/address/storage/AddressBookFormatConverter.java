@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts AddressBook data files between the JSON format, which remains the format for exchanging data, and the
+ * binary format of {@link BinaryAddressBookStorage}.
+ * The format of each file is decided by its extension.
+ */
+public class AddressBookFormatConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: AddressBookFormatConverter SOURCE_FILE TARGET_FILE\n"
+            + "Files ending in " + BinaryAddressBookStorage.FILE_EXTENSION + " are binary, all others are JSON.";
+    public static final String MESSAGE_SOURCE_NOT_FOUND = "Data file %s does not exist";
+
+    /**
+     * Converts the data file named by the first argument into the data file named by the second argument.
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        try {
+            convert(Paths.get(args[0]), Paths.get(args[1]));
+        } catch (DataLoadingException | IOException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads the address book in {@code sourceFile} and writes it to {@code targetFile}, each in the format given by
+     * its extension.
+     *
+     * @throws DataLoadingException if {@code sourceFile} does not exist or could not be loaded.
+     * @throws IOException if {@code targetFile} could not be written.
+     */
+    public static void convert(Path sourceFile, Path targetFile) throws DataLoadingException, IOException {
+        requireNonNull(sourceFile);
+        requireNonNull(targetFile);
+
+        ReadOnlyAddressBook addressBook = getStorage(sourceFile).readAddressBook().orElseThrow(() ->
+                new DataLoadingException(new IOException(String.format(MESSAGE_SOURCE_NOT_FOUND, sourceFile))));
+        getStorage(targetFile).saveAddressBook(addressBook);
+    }
+
+    private static AddressBookStorage getStorage(Path filePath) {
+        return BinaryAddressBookStorage.isBinaryFile(filePath)
+                ? new BinaryAddressBookStorage(filePath)
+                : new JsonAddressBookStorage(filePath);
+    }
+}
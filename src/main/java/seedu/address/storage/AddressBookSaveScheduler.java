@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background thread, coalescing saves requested in
+ * quick succession into a single write of the latest address book.
+ * A write starts once no save has been requested for the debounce window, or once the oldest unwritten request
+ * has waited for the maximum latency, whichever comes first.
+ * An address book whose save fails stays waiting to be saved until a newer one replaces it or a flush writes it.
+ */
+class AddressBookSaveScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaveScheduler.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final long debounceMillis;
+    private final long maxLatencyMillis;
+    private final ScheduledExecutorService saver = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Consumer<IOException> saveFailureHandler = e -> {};
+    private ReadOnlyAddressBook pendingAddressBook;
+    private long pendingSinceMillis;
+    private Future<?> pendingSave;
+
+    /**
+     * Creates an {@code AddressBookSaveScheduler} that writes to {@code addressBookStorage}.
+     */
+    AddressBookSaveScheduler(AddressBookStorage addressBookStorage, long debounceMillis, long maxLatencyMillis) {
+        requireNonNull(addressBookStorage);
+        checkArgument(debounceMillis >= 0 && maxLatencyMillis >= 0, "Save delays cannot be negative");
+        this.addressBookStorage = addressBookStorage;
+        this.debounceMillis = debounceMillis;
+        this.maxLatencyMillis = maxLatencyMillis;
+    }
+
+    /**
+     * Sets the handler that is given the error of every background save that fails.
+     * The handler is called on the background thread.
+     */
+    synchronized void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved, replacing any address book that is waiting to be saved.
+     * {@code addressBook} must not be modified afterwards.
+     */
+    synchronized void schedule(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        long now = System.currentTimeMillis();
+        if (pendingAddressBook == null) {
+            pendingSinceMillis = now;
+        }
+        pendingAddressBook = addressBook;
+
+        if (pendingSave != null) {
+            pendingSave.cancel(false);
+        }
+        long delayMillis = Math.max(0, Math.min(debounceMillis, pendingSinceMillis + maxLatencyMillis - now));
+        pendingSave = saver.schedule(this::savePendingInBackground, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Saves the address book waiting to be saved, if any, and returns once it and any save in progress are written.
+     *
+     * @throws IOException if the address book waiting to be saved could not be written.
+     */
+    void flush() throws IOException {
+        try {
+            saver.submit(() -> {
+                savePending();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving the address book", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void savePendingInBackground() {
+        try {
+            savePending();
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(e));
+            Consumer<IOException> handler;
+            synchronized (this) {
+                handler = saveFailureHandler;
+            }
+            handler.accept(e);
+        }
+    }
+
+    private void savePending() throws IOException {
+        ReadOnlyAddressBook addressBook;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            pendingAddressBook = null;
+        }
+        if (addressBook == null) {
+            return;
+        }
+
+        try {
+            addressBookStorage.saveAddressBook(addressBook);
+        } catch (IOException e) {
+            restorePending(addressBook);
+            throw e;
+        }
+    }
+
+    /**
+     * Makes {@code addressBook}, whose save failed, wait to be saved again, unless a newer address book has been
+     * scheduled since, so that the next flush retries it instead of returning with the changes unsaved.
+     */
+    private synchronized void restorePending(ReadOnlyAddressBook addressBook) {
+        if (pendingAddressBook == null) {
+            pendingAddressBook = addressBook;
+        }
+    }
+}
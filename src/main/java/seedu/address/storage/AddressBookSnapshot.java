@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * An unmodifiable copy of the persons and appointments of an address book at one point in time, which can be
+ * written on a background thread while the address book itself keeps changing.
+ * Only the lists are copied, as persons and appointments are immutable.
+ *
+ * A snapshot can also be taken as an earlier full copy plus the changes recorded since it, which takes time
+ * proportional to the number of those changes rather than the size of the address book. Its lists are then only
+ * built when they are first read, by replaying the changes over the earlier copy on the reading thread. A journal
+ * that only writes out the changes never reads them.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final AddressBookSnapshot base;
+    private final List<AddressBookChange> changes;
+    private final AddressBookChange lastChange;
+    private ObservableList<Person> persons;
+    private ObservableList<Appointment> appointments;
+
+    /**
+     * Creates a full copy of {@code source}.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook source) {
+        base = null;
+        changes = List.of();
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getPersonList()));
+        appointments = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getAppointmentList()));
+        lastChange = source.getLastChange();
+    }
+
+    private AddressBookSnapshot(AddressBookSnapshot base, List<AddressBookChange> changes,
+            AddressBookChange lastChange) {
+        this.base = base;
+        this.changes = changes;
+        this.lastChange = lastChange;
+    }
+
+    /**
+     * Returns a snapshot of {@code source} made of {@code base} and the changes recorded by {@code source} since it,
+     * or a full copy of {@code source} if {@code base} is null or those changes are not recorded.
+     *
+     * @param base A full copy of an earlier state of {@code source}, as returned by {@link #getBase()}.
+     */
+    static AddressBookSnapshot of(ReadOnlyAddressBook source, AddressBookSnapshot base) {
+        AddressBookChange lastChange = source.getLastChange();
+        Optional<List<AddressBookChange>> changes = base == null || base.lastChange == null || lastChange == null
+                ? Optional.empty()
+                : lastChange.getChangesSince(base.lastChange);
+        return changes.map(changesSinceBase -> new AddressBookSnapshot(base, changesSinceBase, lastChange))
+                .orElseGet(() -> new AddressBookSnapshot(source));
+    }
+
+    /**
+     * Returns the full copy this snapshot is made from, which is this snapshot itself if it is a full copy.
+     */
+    AddressBookSnapshot getBase() {
+        return base == null ? this : base;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        replayChanges();
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Appointment> getAppointmentList() {
+        replayChanges();
+        return appointments;
+    }
+
+    @Override
+    public AddressBookChange getLastChange() {
+        return lastChange;
+    }
+
+    /**
+     * Builds the lists of this snapshot by replaying its changes over its base, if that has not been done yet.
+     */
+    private synchronized void replayChanges() {
+        if (persons != null) {
+            return;
+        }
+
+        AddressBook addressBook = new AddressBook(base);
+        changes.forEach(addressBook::applyChange);
+        // The address book is never modified again, so its unmodifiable views do not change
+        persons = addressBook.getPersonList();
+        appointments = addressBook.getAppointmentList();
+    }
+}
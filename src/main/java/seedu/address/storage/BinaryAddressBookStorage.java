@@ -0,0 +1,315 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.ModelValueConverter.convert;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDatetime;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.address.Address;
+import seedu.address.model.person.address.AddressType;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ *
+ * The file holds a header, dictionaries of the distinct roles, address types and tags, the persons, and then the
+ * appointments. Strings are written as their UTF-8 length followed by their UTF-8 bytes. Persons refer to roles,
+ * address types and tags by their position in the dictionaries, and appointments refer to persons by their position
+ * in the persons list, so none of these are written or validated more than once.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".csqb";
+    public static final String MESSAGE_NOT_BINARY_FILE = "%s is not a ClientSquare binary data file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "%s uses unsupported binary format version %d";
+    public static final String MESSAGE_INVALID_REFERENCE = "Invalid %s reference %d";
+    public static final String MESSAGE_TRUNCATED_FILE = "Binary data file ends unexpectedly";
+
+    private static final int MAGIC = 0x43535142; // "CSQB"
+    private static final int FORMAT_VERSION = 1;
+    private static final int NO_BUYER = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a file in the binary format, judging by its extension.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(String.format(MESSAGE_NOT_BINARY_FILE, filePath));
+            }
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, filePath, version));
+            }
+            return Optional.of(new Reader(in, Files.size(filePath)).readAddressBook());
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(out));
+            new Writer(dataOut).writeAddressBook(addressBook);
+            dataOut.flush();
+        });
+    }
+
+    /**
+     * Writes an address book in the binary format.
+     */
+    private static class Writer {
+        private final DataOutputStream out;
+        private final Map<String, Integer> roles = new HashMap<>();
+        private final Map<String, Integer> addressTypes = new HashMap<>();
+        private final Map<String, Integer> tags = new HashMap<>();
+        private final Map<String, Integer> personOrdinals = new HashMap<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void writeAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            List<Person> persons = addressBook.getPersonList();
+            for (Person person : persons) {
+                roles.putIfAbsent(person.getRole().value, roles.size());
+                addressTypes.putIfAbsent(person.getAddressType().toString(), addressTypes.size());
+                for (Tag tag : person.getTags()) {
+                    tags.putIfAbsent(tag.tagName, tags.size());
+                }
+            }
+
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            writeDictionary(roles);
+            writeDictionary(addressTypes);
+            writeDictionary(tags);
+
+            out.writeInt(persons.size());
+            for (Person person : persons) {
+                personOrdinals.put(person.getStorageIdentifier(), personOrdinals.size());
+                writePerson(person);
+            }
+
+            List<Appointment> appointments = addressBook.getAppointmentList();
+            out.writeInt(appointments.size());
+            for (Appointment appointment : appointments) {
+                writeString(appointment.getAppointmentDatetime().toString());
+                out.writeInt(personOrdinals.get(appointment.getSellerStorageIdentifier()));
+                out.writeInt(appointment.getBuyerStorageIdentifier().map(personOrdinals::get).orElse(NO_BUYER));
+            }
+        }
+
+        private void writePerson(Person person) throws IOException {
+            writeString(person.getName().fullName);
+            writeString(person.getPhone().value);
+            writeString(person.getEmail().value);
+            out.writeInt(roles.get(person.getRole().value));
+            writeString(person.getAddress().value);
+            out.writeInt(addressTypes.get(person.getAddressType().toString()));
+            out.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                out.writeInt(tags.get(tag.tagName));
+            }
+        }
+
+        private void writeDictionary(Map<String, Integer> dictionary) throws IOException {
+            String[] words = new String[dictionary.size()];
+            dictionary.forEach((word, ordinal) -> words[ordinal] = word);
+            out.writeInt(words.length);
+            for (String word : words) {
+                writeString(word);
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Reads an address book in the binary format, after its header.
+     * Counts and lengths larger than the file are rejected before anything is allocated for them, so a corrupt
+     * file cannot exhaust the memory.
+     */
+    private static class Reader {
+        private final DataInputStream in;
+        private final long fileSize;
+        private byte[] buffer = new byte[256];
+
+        Reader(DataInputStream in, long fileSize) {
+            this.in = in;
+            this.fileSize = fileSize;
+        }
+
+        AddressBook readAddressBook() throws IOException, IllegalValueException {
+            List<Role> roles = readDictionary(Role::of);
+            List<AddressType> addressTypes = readDictionary(AddressType::of);
+            List<Tag> tags = readDictionary(Tag::of);
+
+            AddressBook addressBook = new AddressBook();
+            int personCount = readCount();
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                Person person = readPerson(roles, addressTypes, tags);
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+                persons.add(person);
+            }
+
+            int appointmentCount = readCount();
+            for (int i = 0; i < appointmentCount; i++) {
+                AppointmentDatetime datetime = convert(readString(), AppointmentDatetime::new);
+                Person seller = get(persons, in.readInt(), "seller");
+                int buyerOrdinal = in.readInt();
+                Appointment appointment = buyerOrdinal == NO_BUYER
+                        ? new Appointment(datetime, seller)
+                        : new Appointment(datetime, seller, get(persons, buyerOrdinal, "buyer"));
+                if (addressBook.hasAppointment(appointment)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_APPOINTMENT);
+                }
+                addressBook.addAppointment(appointment);
+            }
+            return addressBook;
+        }
+
+        private Person readPerson(List<Role> roles, List<AddressType> addressTypes, List<Tag> tags)
+                throws IOException, IllegalValueException {
+            Name name = convert(readString(), Name::new);
+            Phone phone = convert(readString(), Phone::new);
+            Email email = convert(readString(), Email::new);
+            Role role = get(roles, in.readInt(), "role");
+            String address = readString();
+            AddressType addressType = get(addressTypes, in.readInt(), "address type");
+            Address modelAddress = convert(address, value -> new Address(value, addressType));
+            int tagCount = readCount();
+            Set<Tag> personTags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                personTags.add(get(tags, in.readInt(), "tag"));
+            }
+            return new Person(name, phone, email, role, modelAddress, personTags);
+        }
+
+        private <T> List<T> readDictionary(Function<String, T> constructor) throws IOException, IllegalValueException {
+            int count = readCount();
+            List<T> dictionary = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                dictionary.add(convert(readString(), constructor));
+            }
+            return dictionary;
+        }
+
+        private int readCount() throws IOException {
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IOException("Negative count " + count);
+            }
+            if (count > fileSize) {
+                throw new IOException(MESSAGE_TRUNCATED_FILE);
+            }
+            return count;
+        }
+
+        private String readString() throws IOException {
+            int length = readCount();
+            if (length > buffer.length) {
+                buffer = new byte[Math.max(length, buffer.length * 2)];
+            }
+            in.readFully(buffer, 0, length);
+            return new String(buffer, 0, length, StandardCharsets.UTF_8);
+        }
+
+        private static <T> T get(List<T> items, int ordinal, String itemName) throws IllegalValueException {
+            if (ordinal < 0 || ordinal >= items.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_REFERENCE, itemName, ordinal));
+            }
+            return items.get(ordinal);
+        }
+    }
+}
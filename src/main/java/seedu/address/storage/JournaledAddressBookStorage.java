@@ -0,0 +1,284 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot on the hard disk, together with a journal of the
+ * changes saved since the snapshot was written.
+ *
+ * Each save appends the changes recorded by the address book since the previous save to the journal, as one line,
+ * and forces it to the disk, so the cost of a save grows with the size of the changes rather than the size of the
+ * address book. A full snapshot is written instead when those changes are not known, such as on the first save.
+ * Once the journal holds enough saves, it is set aside and the snapshot is rewritten in the background; the set-aside
+ * journal is only deleted after the new snapshot has been moved into place, so a crash at any point leaves a snapshot
+ * and journal that replay to the last save.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String COMPACTING_JOURNAL_FILE_SUFFIX = ".journal.old";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalFilePath;
+    private final Path compactingJournalFilePath;
+    private final boolean isPrettyPrinted;
+    private final int compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The last change made to the address book as of the last save, or null if unknown.
+    private AddressBookChange savedChange;
+    private int journaledSaveCount;
+    private Future<?> compaction = CompletableFuture.completedFuture(null);
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    public JournaledAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that rewrites the snapshot at {@code filePath} once the journal
+     * holds {@code compactionThreshold} saves, indenting it only if {@code isPrettyPrinted} is true.
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isPrettyPrinted, int compactionThreshold) {
+        requireNonNull(filePath);
+        checkArgument(compactionThreshold > 0, "Compaction threshold must be positive");
+        this.filePath = filePath;
+        String fileName = filePath.getFileName().toString();
+        this.journalFilePath = filePath.resolveSibling(fileName + JOURNAL_FILE_SUFFIX);
+        this.compactingJournalFilePath = filePath.resolveSibling(fileName + COMPACTING_JOURNAL_FILE_SUFFIX);
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal is only replayed when reading from this storage's own file path.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return new JsonAddressBookStorage(filePath).readAddressBook();
+        }
+
+        awaitCompaction();
+        List<JsonAdaptedJournalEntry> journalEntries = readJournal(compactingJournalFilePath);
+        journalEntries.addAll(readJournal(journalFilePath));
+        if (journalEntries.isEmpty()) {
+            Optional<ReadOnlyAddressBook> addressBook = new JsonAddressBookStorage(filePath).readAddressBook();
+            savedChange = addressBook.map(ReadOnlyAddressBook::getLastChange).orElse(null);
+            return addressBook;
+        }
+
+        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
+                filePath, JsonSerializableAddressBook.class);
+        AddressBook addressBook;
+        try {
+            addressBook = jsonAddressBook.orElseGet(() -> new JsonSerializableAddressBook(null, null))
+                    .replay(journalEntries)
+                    .toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        savedChange = addressBook.getLastChange();
+        logger.info("Replayed " + journalEntries.size() + " journal entries over " + filePath);
+        try {
+            startCompaction(addressBook);
+        } catch (IOException e) {
+            logger.warning("Failed to compact journal " + journalFilePath + ": " + StringUtil.getDetails(e));
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any path other than this storage's own file path writes a full snapshot there without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            new JsonAddressBookStorage(filePath, isPrettyPrinted).saveAddressBook(addressBook);
+            return;
+        }
+
+        AddressBookChange lastChange = addressBook.getLastChange();
+        Optional<List<AddressBookChange>> changes = savedChange == null || lastChange == null
+                ? Optional.empty()
+                : lastChange.getChangesSince(savedChange);
+        if (changes.isEmpty()) {
+            writeSnapshot(addressBook);
+            savedChange = lastChange;
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> journalEntries = new ArrayList<>();
+        for (AddressBookChange change : changes.get()) {
+            JsonAdaptedJournalEntry journalEntry = new JsonAdaptedJournalEntry(change);
+            if (!journalEntry.isEmpty()) {
+                journalEntries.add(journalEntry);
+            }
+        }
+        if (journalEntries.isEmpty()) {
+            return;
+        }
+        // Each save starts on a new line so that a line torn by a failed write cannot swallow the next one.
+        FileUtil.appendToFileAndSync(journalFilePath, "\n" + JsonUtil.toCompactJsonString(journalEntries));
+        savedChange = lastChange;
+        journaledSaveCount++;
+
+        if (journaledSaveCount >= compactionThreshold && compaction.isDone()) {
+            startCompaction(addressBook);
+        }
+    }
+
+    /**
+     * Blocks until the compaction in progress, if any, has finished.
+     */
+    void awaitCompaction() {
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to compact journal " + journalFilePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes a full snapshot of {@code addressBook} and discards the journal.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        awaitCompaction();
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath, isPrettyPrinted);
+        Files.deleteIfExists(journalFilePath);
+        Files.deleteIfExists(compactingJournalFilePath);
+        journaledSaveCount = 0;
+    }
+
+    /**
+     * Sets the journal aside and rewrites the snapshot as {@code addressBook} in the background.
+     * {@code addressBook} must contain every change recorded in the journal. It is only copied if it is not already
+     * a snapshot, whose lists are then built on the background thread.
+     */
+    private void startCompaction(ReadOnlyAddressBook addressBook) throws IOException {
+        rotateJournal();
+        journaledSaveCount = 0;
+        ReadOnlyAddressBook snapshot = addressBook instanceof AddressBookSnapshot
+                ? addressBook
+                : new AddressBookSnapshot(addressBook);
+        compaction = compactor.submit(() -> compact(snapshot));
+    }
+
+    private void rotateJournal() throws IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return;
+        }
+        if (FileUtil.isFileExists(compactingJournalFilePath)) {
+            // Left behind by a compaction that failed. Replaying its entries again after the journal's is harmless.
+            FileUtil.appendToFileAndSync(compactingJournalFilePath, FileUtil.readFromFile(journalFilePath));
+            Files.delete(journalFilePath);
+        } else {
+            FileUtil.moveReplacingExisting(journalFilePath, compactingJournalFilePath);
+        }
+    }
+
+    private void compact(ReadOnlyAddressBook snapshot) {
+        try {
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(snapshot), filePath, isPrettyPrinted);
+            Files.deleteIfExists(compactingJournalFilePath);
+            logger.fine("Compacted journal into " + filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to compact journal " + compactingJournalFilePath
+                    + ", it will be replayed on the next start: " + StringUtil.getDetails(e));
+        }
+    }
+
+    private static List<JsonAdaptedJournalEntry> readJournal(Path journalFile) throws DataLoadingException {
+        List<JsonAdaptedJournalEntry> journalEntries = new ArrayList<>();
+        if (!FileUtil.isFileExists(journalFile)) {
+            return journalEntries;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFile, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFile + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                journalEntries.addAll(List.of(JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry[].class)));
+            } catch (IOException e) {
+                // A line torn by a failed write; the save that wrote it failed, so its changes were journaled again.
+                logger.warning("Skipping incomplete line in journal file " + journalFile + ": " + e.getMessage());
+            }
+        }
+        return journalEntries;
+    }
+}
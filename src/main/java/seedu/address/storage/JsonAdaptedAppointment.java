@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static seedu.address.storage.ModelValueConverter.convert;
+
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -51,6 +53,13 @@ class JsonAdaptedAppointment {
         return buyer;
     }
 
+    /**
+     * Returns a key that identifies the stored appointment by its datetime, seller and buyer.
+     */
+    public String getStorageKey() {
+        return appointmentDateTime + "|" + seller + "|" + buyer;
+    }
+
     /**
      * Converts this Json-friendly adapted appointment object into the model's {@code Appointment} object, given
      * references to the buyer and seller objects.
@@ -68,9 +77,7 @@ class JsonAdaptedAppointment {
                     AppointmentDatetime.class.getSimpleName()));
         }
 
-        if (!AppointmentDatetime.isValidDatetime(appointmentDateTime)) {
-            throw new IllegalValueException(AppointmentDatetime.MESSAGE_CONSTRAINTS);
-        }
+        final AppointmentDatetime modelDatetime = convert(appointmentDateTime, AppointmentDatetime::new);
 
         if (seller == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -78,9 +85,9 @@ class JsonAdaptedAppointment {
         }
 
         if (buyer == null) {
-            return new Appointment(new AppointmentDatetime(appointmentDateTime), seller);
+            return new Appointment(modelDatetime, seller);
         } else {
-            return new Appointment(new AppointmentDatetime(appointmentDateTime), seller, buyer);
+            return new Appointment(modelDatetime, seller, buyer);
         }
     }
 }
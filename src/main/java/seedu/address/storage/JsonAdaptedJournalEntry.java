@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChange}, one modification of an address book.
+ * Applying an entry more than once has the same effect as applying it once.
+ */
+class JsonAdaptedJournalEntry {
+
+    private final List<String> removedPersons = new ArrayList<>();
+    private final List<JsonAdaptedPerson> savedPersons = new ArrayList<>();
+    private final Map<String, String> replacedPersons = new HashMap<>();
+    private final List<JsonAdaptedAppointment> removedAppointments = new ArrayList<>();
+    private final List<JsonAdaptedAppointment> addedAppointments = new ArrayList<>();
+    private final Map<String, String> replacedAppointments = new HashMap<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given changes.
+     *
+     * @param removedPersons phone numbers of the persons that were removed.
+     * @param savedPersons persons that were added or edited.
+     * @param replacedPersons phone numbers of saved persons mapped to the phone numbers of the removed persons
+     *     whose place in the list they take.
+     * @param removedAppointments appointments that were removed.
+     * @param addedAppointments appointments that were added.
+     * @param replacedAppointments storage keys of added appointments mapped to the storage keys of the removed
+     *     appointments whose place in the list they take.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("removedPersons") List<String> removedPersons,
+            @JsonProperty("savedPersons") List<JsonAdaptedPerson> savedPersons,
+            @JsonProperty("replacedPersons") Map<String, String> replacedPersons,
+            @JsonProperty("removedAppointments") List<JsonAdaptedAppointment> removedAppointments,
+            @JsonProperty("addedAppointments") List<JsonAdaptedAppointment> addedAppointments,
+            @JsonProperty("replacedAppointments") Map<String, String> replacedAppointments) {
+        if (removedPersons != null) {
+            this.removedPersons.addAll(removedPersons);
+        }
+        if (savedPersons != null) {
+            this.savedPersons.addAll(savedPersons);
+        }
+        if (replacedPersons != null) {
+            this.replacedPersons.putAll(replacedPersons);
+        }
+        if (removedAppointments != null) {
+            this.removedAppointments.addAll(removedAppointments);
+        }
+        if (addedAppointments != null) {
+            this.addedAppointments.addAll(addedAppointments);
+        }
+        if (replacedAppointments != null) {
+            this.replacedAppointments.putAll(replacedAppointments);
+        }
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     */
+    public JsonAdaptedJournalEntry(AddressBookChange source) {
+        for (Person person : source.getRemovedPersons()) {
+            removedPersons.add(person.getStorageIdentifier());
+        }
+        for (Person person : source.getAddedPersons()) {
+            savedPersons.add(new JsonAdaptedPerson(person));
+        }
+        source.getReplacedPersons().forEach((target, editedPerson) -> {
+            savedPersons.add(new JsonAdaptedPerson(editedPerson));
+            if (!target.getStorageIdentifier().equals(editedPerson.getStorageIdentifier())) {
+                replacedPersons.put(editedPerson.getStorageIdentifier(), target.getStorageIdentifier());
+            }
+        });
+        for (Appointment appointment : source.getRemovedAppointments()) {
+            removedAppointments.add(new JsonAdaptedAppointment(appointment));
+        }
+        for (Appointment appointment : source.getAddedAppointments()) {
+            addedAppointments.add(new JsonAdaptedAppointment(appointment));
+        }
+        source.getReplacedAppointments().forEach((target, editedAppointment) -> {
+            JsonAdaptedAppointment addedAppointment = new JsonAdaptedAppointment(editedAppointment);
+            addedAppointments.add(addedAppointment);
+            String targetStorageKey = new JsonAdaptedAppointment(target).getStorageKey();
+            if (!targetStorageKey.equals(addedAppointment.getStorageKey())) {
+                replacedAppointments.put(addedAppointment.getStorageKey(), targetStorageKey);
+            }
+        });
+    }
+
+    /**
+     * Returns true if this entry does not record any change.
+     */
+    public boolean isEmpty() {
+        return removedPersons.isEmpty() && savedPersons.isEmpty()
+                && removedAppointments.isEmpty() && addedAppointments.isEmpty();
+    }
+
+    /**
+     * Applies the changes in this entry to the given persons, keyed by phone number, and appointments, keyed by
+     * {@link JsonAdaptedAppointment#getStorageKey()}.
+     */
+    public void applyTo(Map<String, JsonAdaptedPerson> persons, Map<String, JsonAdaptedAppointment> appointments) {
+        for (String phone : removedPersons) {
+            persons.remove(phone);
+        }
+        for (JsonAdaptedPerson person : savedPersons) {
+            put(persons, person.getPhone(), person, replacedPersons.get(person.getPhone()));
+        }
+        for (JsonAdaptedAppointment appointment : removedAppointments) {
+            appointments.remove(appointment.getStorageKey());
+        }
+        for (JsonAdaptedAppointment appointment : addedAppointments) {
+            String storageKey = appointment.getStorageKey();
+            put(appointments, storageKey, appointment, replacedAppointments.get(storageKey));
+        }
+    }
+
+    /**
+     * Puts {@code value} into {@code map} under {@code key}, in place of the entry under {@code replacedKey} if there
+     * is one. Otherwise, an existing entry under {@code key} keeps its position and a new one is added to the end.
+     */
+    private static <T> void put(Map<String, T> map, String key, T value, String replacedKey) {
+        if (replacedKey == null || !map.containsKey(replacedKey)) {
+            map.put(key, value);
+            return;
+        }
+        Map<String, T> replaced = new LinkedHashMap<>();
+        for (Map.Entry<String, T> entry : map.entrySet()) {
+            if (entry.getKey().equals(replacedKey)) {
+                replaced.put(key, value);
+            } else if (!entry.getKey().equals(key)) {
+                replaced.put(entry.getKey(), entry.getValue());
+            }
+        }
+        map.clear();
+        map.putAll(replaced);
+    }
+}
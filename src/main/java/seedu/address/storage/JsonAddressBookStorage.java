@@ -3,14 +3,16 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -22,9 +24,18 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private boolean isPrettyPrinted;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that indents the saved JSON only if {@code isPrettyPrinted} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,6 +49,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * Persons and appointments are converted as they are read, so the file's contents are never held in memory
+     * in any form other than the returned address book.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +58,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.readModelType(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +88,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath, isPrettyPrinted);
     }
 
 }
@@ -1,12 +1,19 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -23,6 +30,11 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_APPOINTMENT = "Appointments list contains duplicate appointment(s).";
 
+    /** Number of persons or appointments that are read before they are converted when streaming. */
+    static final int BATCH_SIZE = 8192;
+    /** Smallest number of persons or appointments that are worth converting in parallel. */
+    static final int PARALLEL_THRESHOLD = 512;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedAppointment> appointments = new ArrayList<>();
 
@@ -52,6 +64,27 @@ class JsonSerializableAddressBook {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns a copy of this address book with the changes recorded in {@code journalEntries} applied in order.
+     * Persons keep their position in the list when they are replaced, while new persons and appointments are added
+     * to the end of their lists.
+     */
+    public JsonSerializableAddressBook replay(List<JsonAdaptedJournalEntry> journalEntries) {
+        Map<String, JsonAdaptedPerson> personsByPhone = new LinkedHashMap<>();
+        for (JsonAdaptedPerson person : persons) {
+            personsByPhone.put(person.getPhone(), person);
+        }
+        Map<String, JsonAdaptedAppointment> appointmentsByKey = new LinkedHashMap<>();
+        for (JsonAdaptedAppointment appointment : appointments) {
+            appointmentsByKey.put(appointment.getStorageKey(), appointment);
+        }
+        for (JsonAdaptedJournalEntry journalEntry : journalEntries) {
+            journalEntry.applyTo(personsByPhone, appointmentsByKey);
+        }
+        return new JsonSerializableAddressBook(new ArrayList<>(personsByPhone.values()),
+                new ArrayList<>(appointmentsByKey.values()));
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
@@ -59,21 +92,148 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+        addPersons(persons, addressBook);
+        addAppointments(appointments, addressBook);
+        return addressBook;
+    }
+
+    /**
+     * Reads an address book in the format written by this class from {@code parser} and converts it into the
+     * model's {@code AddressBook} object one person and appointment at a time, without holding the whole
+     * {@code JsonSerializableAddressBook} in memory.
+     * Persons and appointments are converted in batches of {@code BATCH_SIZE}, and appointments that appear before
+     * the persons they refer to are kept until the persons have been read.
+     *
+     * @param parser a parser created by {@code JsonUtil} that has not read any token yet.
+     * @throws IOException if the data is not valid JSON in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw JsonMappingException.from(parser, "Expected an address book object");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        List<JsonAdaptedAppointment> pendingAppointments = new ArrayList<>();
+        boolean hasReadPersons = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (fieldName.equals("persons") && value == JsonToken.START_ARRAY) {
+                List<JsonAdaptedPerson> batch = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                    if (batch.size() == BATCH_SIZE) {
+                        addPersons(batch, addressBook);
+                        batch.clear();
+                    }
+                }
+                addPersons(batch, addressBook);
+                hasReadPersons = true;
+            } else if (fieldName.equals("appointments") && value == JsonToken.START_ARRAY) {
+                List<JsonAdaptedAppointment> batch = hasReadPersons ? new ArrayList<>() : pendingAppointments;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    batch.add(parser.readValueAs(JsonAdaptedAppointment.class));
+                    if (hasReadPersons && batch.size() == BATCH_SIZE) {
+                        addAppointments(batch, addressBook);
+                        batch.clear();
+                    }
+                }
+                if (hasReadPersons) {
+                    addAppointments(batch, addressBook);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        addAppointments(pendingAppointments, addressBook);
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPersons} and adds them to {@code addressBook} in order.
+     *
+     * @throws IllegalValueException for the first person in the list that violates a data constraint or duplicates
+     *     an earlier person, no matter which persons were converted first.
+     */
+    private static void addPersons(List<JsonAdaptedPerson> jsonAdaptedPersons, AddressBook addressBook)
+            throws IllegalValueException {
+        for (Conversion<Person> conversion : convertAll(jsonAdaptedPersons, JsonAdaptedPerson::toModelType)) {
+            Person person = conversion.get();
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
             addressBook.addPerson(person);
         }
-        for (JsonAdaptedAppointment jsonAdaptedAppointment : appointments) {
-            Appointment appointment = toModelAppointment(jsonAdaptedAppointment, addressBook);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedAppointments}, which refer to persons already in {@code addressBook}, and adds them
+     * to {@code addressBook} in order.
+     *
+     * @throws IllegalValueException for the first appointment in the list that violates a data constraint or
+     *     duplicates an earlier appointment, no matter which appointments were converted first.
+     */
+    private static void addAppointments(List<JsonAdaptedAppointment> jsonAdaptedAppointments,
+            AddressBook addressBook) throws IllegalValueException {
+        List<Conversion<Appointment>> conversions = convertAll(jsonAdaptedAppointments,
+                jsonAdaptedAppointment -> toModelAppointment(jsonAdaptedAppointment, addressBook));
+        for (Conversion<Appointment> conversion : conversions) {
+            Appointment appointment = conversion.get();
             if (addressBook.hasAppointment(appointment)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_APPOINTMENT);
             }
             addressBook.addAppointment(appointment);
         }
-        return addressBook;
+    }
+
+    /**
+     * Converts each of {@code adaptedItems} with {@code converter}, in parallel on the common fork-join pool if
+     * there are at least {@code PARALLEL_THRESHOLD} of them, and returns the outcomes in the same order.
+     * {@code converter} must not modify any shared state.
+     */
+    private static <A, T> List<Conversion<T>> convertAll(List<A> adaptedItems, Converter<A, T> converter) {
+        Stream<A> stream = adaptedItems.size() >= PARALLEL_THRESHOLD
+                ? adaptedItems.parallelStream()
+                : adaptedItems.stream();
+        return stream.map(adaptedItem -> Conversion.of(adaptedItem, converter)).collect(Collectors.toList());
+    }
+
+    /**
+     * Converts a Jackson-friendly adapted object into a model object.
+     */
+    @FunctionalInterface
+    private interface Converter<A, T> {
+        T convert(A adaptedItem) throws IllegalValueException;
+    }
+
+    /**
+     * The outcome of converting one adapted object: either the model object or the data constraint it violated.
+     * Keeping the error with its position lets the caller report errors in list order.
+     */
+    private static class Conversion<T> {
+        private final T value;
+        private final IllegalValueException error;
+
+        private Conversion(T value, IllegalValueException error) {
+            this.value = value;
+            this.error = error;
+        }
+
+        static <A, T> Conversion<T> of(A adaptedItem, Converter<A, T> converter) {
+            try {
+                return new Conversion<>(converter.convert(adaptedItem), null);
+            } catch (IllegalValueException e) {
+                return new Conversion<>(null, e);
+            }
+        }
+
+        T get() throws IllegalValueException {
+            if (error != null) {
+                throw error;
+            }
+            return value;
+        }
     }
 
     /**
@@ -85,7 +245,8 @@ class JsonSerializableAddressBook {
      * @return the Appointment object to be added.
      * @throws IllegalValueException if there were any data constraints violated.
      */
-    public Appointment toModelAppointment(JsonAdaptedAppointment jsonAdaptedAppointment, AddressBook addressBook)
+    public static Appointment toModelAppointment(JsonAdaptedAppointment jsonAdaptedAppointment,
+            AddressBook addressBook)
             throws IllegalValueException {
         Person seller = addressBook.findPerson(jsonAdaptedAppointment.getSeller());
         Person buyer = addressBook.findPerson(jsonAdaptedAppointment.getBuyer());
@@ -0,0 +1,27 @@
+package seedu.address.storage;
+
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts stored strings into the model's value objects.
+ * The value objects check their own data constraints when they are constructed, so the strings are not
+ * validated a second time before construction.
+ */
+class ModelValueConverter {
+
+    private ModelValueConverter() {}
+
+    /**
+     * Converts {@code value} with {@code constructor}, reporting a violated data constraint as an
+     * {@code IllegalValueException} with the constraint's message.
+     */
+    static <T> T convert(String value, Function<String, T> constructor) throws IllegalValueException {
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,24 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves {@code addressBook}, possibly later on a background thread together with address books scheduled after
+     * it, in which case only the latest one is written.
+     * {@code addressBook} may keep changing after this method returns; the state it is in now is what gets saved.
+     *
+     * @throws IOException if the address book is saved immediately and that fails.
+     */
+    void scheduleSaveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Writes the address book scheduled to be saved, if any, and waits until every scheduled save has been written.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Sets the handler that is given the error of every scheduled save that fails in the background.
+     * The handler is called on the background thread.
+     */
+    void setAddressBookSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
 }
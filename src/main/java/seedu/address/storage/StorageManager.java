@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -19,15 +20,31 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private AddressBookSaveScheduler addressBookSaveScheduler;
+    // The latest full copy of a scheduled address book, which later schedules are taken as changes against.
+    private AddressBookSnapshot scheduledAddressBookCopy;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Scheduled saves of the address book are written immediately.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage} that
+     * writes scheduled saves of the address book in the background, once no save has been scheduled for
+     * {@code saveDebounceMillis} or the oldest unwritten save has waited for {@code saveMaxLatencyMillis}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            long saveDebounceMillis, long saveMaxLatencyMillis) {
+        this(addressBookStorage, userPrefsStorage);
+        this.addressBookSaveScheduler = new AddressBookSaveScheduler(addressBookStorage, saveDebounceMillis,
+                saveMaxLatencyMillis);
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -75,4 +92,30 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void scheduleSaveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        if (addressBookSaveScheduler == null) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        logger.fine("Scheduling save to data file: " + getAddressBookFilePath());
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook, scheduledAddressBookCopy);
+        scheduledAddressBookCopy = snapshot.getBase();
+        addressBookSaveScheduler.schedule(snapshot);
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (addressBookSaveScheduler != null) {
+            addressBookSaveScheduler.flush();
+        }
+    }
+
+    @Override
+    public void setAddressBookSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        if (addressBookSaveScheduler != null) {
+            addressBookSaveScheduler.setSaveFailureHandler(saveFailureHandler);
+        }
+    }
+
 }
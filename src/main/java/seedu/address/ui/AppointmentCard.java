@@ -19,8 +19,6 @@ public class AppointmentCard extends UiPart<Region> {
 
     private static final String NO_BUYER_TEXT = "-";
 
-    public final Appointment appointment;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -34,12 +32,27 @@ public class AppointmentCard extends UiPart<Region> {
     @FXML
     private Label seller;
 
+    /**
+     * Creates an {@code AppointmentCard} that shows nothing until it is given an appointment with
+     * {@link #setAppointment(Appointment, int)}.
+     */
+    public AppointmentCard() {
+        super(FXML);
+    }
+
     /**
      * Creates an {@code AppointmentCard} with the given {@code Appointment} and index to display.
      */
     public AppointmentCard(Appointment appointment, int displayedIndex) {
-        super(FXML);
-        this.appointment = appointment;
+        this();
+        setAppointment(appointment, displayedIndex);
+    }
+
+    /**
+     * Shows {@code appointment} with the given index on this card in place of the appointment it showed before,
+     * reusing the card's nodes.
+     */
+    public void setAppointment(Appointment appointment, int displayedIndex) {
         id.setText(displayedIndex + ". ");
         datetime.setText(appointment.getAppointmentDatetime().datetime.format(DISPLAY_FORMATTER));
         appointmentLocation.setText(appointment.getSeller().getAddress().value);
@@ -31,9 +31,11 @@ public class AppointmentListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of an {@code Appointment}
-     * using an {@code AppointmentCard}.
+     * using an {@code AppointmentCard}, which it creates once and reuses for every appointment it shows.
      */
     class AppointmentListViewCell extends ListCell<Appointment> {
+        private AppointmentCard appointmentCard;
+
         @Override
         protected void updateItem(Appointment appointment, boolean empty) {
             super.updateItem(appointment, empty);
@@ -42,7 +44,11 @@ public class AppointmentListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new AppointmentCard(appointment, getIndex() + 1).getRoot());
+                if (appointmentCard == null) {
+                    appointmentCard = new AppointmentCard();
+                }
+                appointmentCard.setAppointment(appointment, getIndex() + 1);
+                setGraphic(appointmentCard.getRoot());
             }
         }
     }
@@ -1,12 +1,12 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -41,12 +41,14 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            if (error != null) {
+                setStyleToIndicateCommandFailure();
+            } else if (commandTextField.getText().equals(commandText)) {
+                // leaves alone anything typed while the command was running
+                commandTextField.setText("");
+            }
+        });
     }
 
     /**
@@ -70,16 +72,18 @@ public class CommandBox extends UiPart<Region> {
     }
 
     /**
-     * Represents a function that can execute commands.
+     * Represents a function that can execute commands without blocking the JavaFX Application Thread.
      */
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns the result when it is done.
+         * The returned future is completed on the JavaFX Application Thread, exceptionally with a
+         * {@code CommandException} or {@code ParseException} if the command fails.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
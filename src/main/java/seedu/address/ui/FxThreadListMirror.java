@@ -0,0 +1,89 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.util.BatchedObservableList;
+
+/**
+ * A copy of an observable list that is changed on a background thread, which follows the changes to that list on the
+ * JavaFX Application Thread, so that it can be shown by the UI.
+ * The changes to the source list are recorded on the thread that makes them. The changes made before the JavaFX
+ * Application Thread gets to them are applied together, and reported to the listeners of the copy as one change.
+ *
+ * @param <E> Type of the elements in the list.
+ */
+class FxThreadListMirror<E> {
+
+    private final BatchedObservableList<E> mirror = new BatchedObservableList<>();
+    private final ObservableList<E> unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+    private final List<Runnable> pendingChanges = new ArrayList<>();
+
+    /**
+     * Creates a copy of {@code source} that follows its changes.
+     * {@code source} must not be changed while this constructor runs.
+     */
+    FxThreadListMirror(ObservableList<E> source) {
+        requireNonNull(source);
+        mirror.addAll(source);
+        source.addListener(this::recordChange);
+    }
+
+    /**
+     * Returns the copy as an unmodifiable {@code ObservableList}, which must only be used on the JavaFX Application
+     * Thread.
+     */
+    ObservableList<E> asUnmodifiableObservableList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Records {@code change} to be made to the copy, and asks the JavaFX Application Thread to apply it unless it
+     * has already been asked to apply earlier changes that it has not got to yet.
+     */
+    private void recordChange(ListChangeListener.Change<? extends E> change) {
+        List<Runnable> changes = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                List<E> replacement = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                changes.add(() -> {
+                    for (int i = 0; i < replacement.size(); i++) {
+                        mirror.set(from + i, replacement.get(i));
+                    }
+                });
+            } else {
+                int removedSize = change.getRemovedSize();
+                List<E> added = new ArrayList<>(change.getAddedSubList());
+                changes.add(() -> {
+                    mirror.remove(from, from + removedSize);
+                    mirror.addAll(from, added);
+                });
+            }
+        }
+
+        boolean isApplyRequested;
+        synchronized (pendingChanges) {
+            isApplyRequested = !pendingChanges.isEmpty();
+            pendingChanges.addAll(changes);
+        }
+        if (!isApplyRequested) {
+            Platform.runLater(this::applyPendingChanges);
+        }
+    }
+
+    private void applyPendingChanges() {
+        List<Runnable> changes;
+        synchronized (pendingChanges) {
+            changes = new ArrayList<>(pendingChanges);
+            pendingChanges.clear();
+        }
+        mirror.applyChanges(() -> changes.forEach(Runnable::run));
+    }
+}
@@ -1,7 +1,11 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Scene;
@@ -17,6 +21,8 @@ import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -36,6 +42,18 @@ public class MainWindow extends UiPart<Stage> {
     private AppointmentListPanel appointmentListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    private StatusBarFooter statusBarFooter;
+
+    // Copies of the model's lists, which are changed by the command runner, for the list panels to show
+    private FxThreadListMirror<Person> personList;
+    private FxThreadListMirror<Appointment> appointmentList;
+
+    private final ExecutorService commandRunner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-runner");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private int runningCommandCount;
 
     private boolean isDarkTheme;
 
@@ -121,13 +139,18 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personList = new FxThreadListMirror<>(logic.getFilteredPersonList());
+        appointmentList = new FxThreadListMirror<>(logic.getFilteredAppointmentList());
+
+        personListPanel = new PersonListPanel(personList.asUnmodifiableObservableList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
+        appointmentListPanel = new AppointmentListPanel(appointmentList.asUnmodifiableObservableList());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -145,7 +168,6 @@ public class MainWindow extends UiPart<Stage> {
      */
     public void showAppointmentList() {
         personListPanelPlaceholder.getChildren().clear();
-        appointmentListPanel = new AppointmentListPanel(logic.getFilteredAppointmentList());
         personListPanelPlaceholder.getChildren().add(appointmentListPanel.getRoot());
     }
 
@@ -229,41 +251,82 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command and returns the result when it is done.
+     * The command is executed on a background thread, so that the window stays responsive, and its result is then
+     * shown on the JavaFX Application Thread, after the list panels have caught up with the changes it made.
+     * Commands are executed in the order they are entered.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        statusBarFooter.setRunningCommandCount(++runningCommandCount);
+        commandRunner.execute(() -> {
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                Platform.runLater(() -> finishCommand(commandText, () -> showCommandResult(commandResult), result));
+            } catch (CommandException | ParseException | RuntimeException e) {
+                Platform.runLater(() -> finishCommand(commandText, () -> {
+                    throw e;
+                }, result));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Runs {@code step} to finish executing the command, and completes {@code result} with its outcome.
+     */
+    private void finishCommand(String commandText, CommandStep step, CompletableFuture<CommandResult> result) {
         try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            result.complete(step.run());
+        } catch (CommandException | ParseException e) {
+            logger.info("An error occurred while executing command: " + commandText);
+            resultDisplay.setFeedbackToUser(e.getMessage());
+            result.completeExceptionally(e);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            throw e;
+        } finally {
+            statusBarFooter.setRunningCommandCount(--runningCommandCount);
+        }
+    }
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+    /**
+     * Shows the result of an executed command and carries out the UI changes it asks for.
+     */
+    private CommandResult showCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            if (commandResult.isToggleTheme()) {
-                handleToggleTheme();
-            }
+        if (commandResult.isExit()) {
+            handleExit();
+        }
 
-            if (commandResult.isShowAppointmentList()) {
-                showAppointmentList();
-            }
+        if (commandResult.isToggleTheme()) {
+            handleToggleTheme();
+        }
 
-            if (commandResult.isShowPersonList()) {
-                showPersonList();
-            }
+        if (commandResult.isShowAppointmentList()) {
+            showAppointmentList();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isShowPersonList()) {
+            showPersonList();
         }
+
+        return commandResult;
+    }
+
+    /**
+     * Represents the part of executing a command that is left to do on the JavaFX Application Thread.
+     */
+    @FunctionalInterface
+    private interface CommandStep {
+        CommandResult run() throws CommandException, ParseException;
     }
 }
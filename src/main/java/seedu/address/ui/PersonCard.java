@@ -1,15 +1,15 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
-
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Role;
-import seedu.address.model.person.address.PropertyType;
+import seedu.address.model.tag.Tag;
 
 /**
  * An UI component that displays information of a {@code Person}.
@@ -26,7 +26,8 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private String roleStyleClass;
+    private String propertyTypeStyleClass;
 
     @FXML
     private HBox cardPane;
@@ -47,39 +48,63 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
+    /**
+     * Creates a {@code PersonCard} that shows nothing until it is given a person with
+     * {@link #setPerson(Person, int)}.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
-        this.person = person;
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Shows {@code person} with the given index on this card in place of the person it showed before, reusing the
+     * card's nodes.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         String roleLowerCase = person.getRole().value.toLowerCase();
         role.setText(roleLowerCase.toUpperCase());
-        String propertyTypeCapitalised = person.getAddressType().toString().toUpperCase();
-        propertyType.setText(propertyTypeCapitalised);
+        propertyType.setText(person.getAddressType().toString().toUpperCase());
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> {
-                    Label tagLabel = new Label(tag.tagName);
-                    tagLabel.getStyleClass().add("tag_label");
-                    tags.getChildren().add(tagLabel);
-                });
+        setTags(person);
 
-        if (roleLowerCase.equals(Role.BUYER)) {
-            role.getStyleClass().add(Role.BUYER);
-        } else if (roleLowerCase.equals(Role.SELLER)) {
-            role.getStyleClass().add(Role.SELLER);
+        role.getStyleClass().remove(roleStyleClass);
+        roleStyleClass = roleLowerCase.equals(Role.BUYER) || roleLowerCase.equals(Role.SELLER) ? roleLowerCase : null;
+        if (roleStyleClass != null) {
+            role.getStyleClass().add(roleStyleClass);
         }
-        try {
-            PropertyType type = PropertyType.fromString(propertyTypeCapitalised);
-            propertyType.getStyleClass().add(type.getCssClass());
-        } catch (IllegalArgumentException e) {
-            propertyType.getStyleClass().add("property_unknown");
+        propertyType.getStyleClass().remove(propertyTypeStyleClass);
+        propertyTypeStyleClass = person.getAddressType().type.getCssClass();
+        propertyType.getStyleClass().add(propertyTypeStyleClass);
+    }
+
+    /**
+     * Shows the tags of {@code person} in order of their names, reusing the labels of the tags shown before.
+     */
+    private void setTags(Person person) {
+        ObservableList<Node> tagLabels = tags.getChildren();
+        int tagCount = 0;
+        for (Tag tag : person.getTags()) {
+            if (tagCount < tagLabels.size()) {
+                ((Label) tagLabels.get(tagCount)).setText(tag.tagName);
+            } else {
+                Label tagLabel = new Label(tag.tagName);
+                tagLabel.getStyleClass().add("tag_label");
+                tagLabels.add(tagLabel);
+            }
+            tagCount++;
         }
+        tagLabels.remove(tagCount, tagLabels.size());
     }
 }
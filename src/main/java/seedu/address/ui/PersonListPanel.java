@@ -30,9 +30,12 @@ public class PersonListPanel extends UiPart<Region> {
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}, which it
+     * creates once and reuses for every person it shows.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,7 +44,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard();
+                }
+                personCard.setPerson(person, getIndex() + 1);
+                setGraphic(personCard.getRoot());
             }
         }
     }
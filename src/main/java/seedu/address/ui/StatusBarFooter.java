@@ -12,10 +12,15 @@ import javafx.scene.layout.Region;
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String MESSAGE_RUNNING_COMMAND = "Running command...";
+    public static final String MESSAGE_RUNNING_COMMANDS = "Running %d commands...";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label commandStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +30,17 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows that {@code runningCommandCount} commands are waiting or running, or nothing if there are none.
+     */
+    public void setRunningCommandCount(int runningCommandCount) {
+        if (runningCommandCount == 0) {
+            commandStatus.setText("");
+        } else if (runningCommandCount == 1) {
+            commandStatus.setText(MESSAGE_RUNNING_COMMAND);
+        } else {
+            commandStatus.setText(String.format(MESSAGE_RUNNING_COMMANDS, runningCommandCount));
+        }
+    }
+
 }
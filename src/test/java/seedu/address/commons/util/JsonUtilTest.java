@@ -39,6 +39,28 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonFile_prettyPrinted_sameAsSerializedString() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.saveJsonFile(serializableTestClass, SERIALIZATION_FILE, true);
+
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
+    @Test
+    public void saveJsonFile_notPrettyPrinted_singleLine() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.saveJsonFile(serializableTestClass, SERIALIZATION_FILE, false);
+
+        String json = FileUtil.readFromFile(SERIALIZATION_FILE);
+        assertEquals(1, json.lines().count());
+        assertEquals(JsonUtil.toCompactJsonString(serializableTestClass), json);
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -1,10 +1,13 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +126,73 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    @Test
+    public void containsWordIgnoreCase_otherWhitespace_correctResult() {
+        // Tabs, newlines and other regex whitespace separate words
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\tbbb\nccc", "bbb"));
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\r\nbbb\u000Bccc\fddd", "ccc"));
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa bbb", "\tbbb\n"));
+
+        // Control characters that are not regex whitespace are part of the word
+        assertFalse(StringUtil.containsWordIgnoreCase("aaa\u0001bbb", "bbb"));
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\u0001bbb", "AAA\u0001BBB"));
+
+        // Word separated by other whitespace is still more than one word
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.containsWordIgnoreCase("typical sentence", "aaa\tbbb"));
+    }
+
+    //---------------- Tests for toLowerCaseWords --------------------------------------
+
+    @Test
+    public void toLowerCaseWords_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toLowerCaseWords(null));
+    }
+
+    @Test
+    public void toLowerCaseWords_validInputs_correctResult() {
+        assertEquals(Set.of(), StringUtil.toLowerCaseWords(""));
+        assertEquals(Set.of(), StringUtil.toLowerCaseWords("   "));
+        assertEquals(Set.of("abc"), StringUtil.toLowerCaseWords("ABc"));
+        assertEquals(Set.of("aaa", "bbb", "ccc@1"), StringUtil.toLowerCaseWords("  AAA   bBb \t ccc@1 aaa "));
+    }
+
+    @Test
+    public void toLowerCaseWord_invalidWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+            -> StringUtil.toLowerCaseWord("  "));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.toLowerCaseWord("aaa BBB"));
+    }
+
+    @Test
+    public void toLowerCaseWord_validWord_correctResult() {
+        assertEquals("abc", StringUtil.toLowerCaseWord("  ABc\t"));
+        String normalized = "abc";
+        assertSame(normalized, StringUtil.toLowerCaseWord(normalized));
+    }
+
+    @Test
+    public void toLowerCaseWords_nonAsciiCase_agreesWithContainsWordIgnoreCase() {
+        String upperSigma = "\u039F\u0394\u039F\u03A3"; // ends in capital sigma
+        String finalSigma = "\u03BF\u03B4\u03BF\u03C2"; // ends in final sigma
+        String medialSigma = "\u03BF\u03B4\u03BF\u03C3"; // ends in medial sigma
+        String dottedCapitalI = "\u0130stanbul";
+        String dotlessI = "\u0131stanbul";
+        String[][] sentencesAndWords = {
+            {upperSigma, finalSigma}, {upperSigma, medialSigma}, {finalSigma, medialSigma},
+            {dottedCapitalI, "istanbul"}, {dotlessI, "ISTANBUL"}, {"Stra\u00DFe", "STRASSE"}
+        };
+        for (String[] sentenceAndWord : sentencesAndWords) {
+            String sentence = sentenceAndWord[0];
+            String word = sentenceAndWord[1];
+            assertEquals(StringUtil.containsWordIgnoreCase(sentence, word),
+                    StringUtil.toLowerCaseWords(sentence).contains(StringUtil.toLowerCaseWord(word)));
+        }
+        assertEquals(Set.of(medialSigma), StringUtil.toLowerCaseWords(upperSigma + " " + finalSigma));
+        assertEquals("istanbul", StringUtil.toLowerCaseWord(dottedCapitalI));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -13,7 +15,10 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,9 +26,11 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -83,6 +90,76 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_addressBookUnchanged_savesOnlyOnce() throws Exception {
+        int[] saveCount = new int[1];
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ROLE_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        assertEquals(2, saveCount[0]);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saveCount[0]);
+    }
+
+    @Test
+    public void execute_exitAfterBackgroundSaveScheduled_savesBeforeReturning() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookFilePath);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        long longDelayMillis = TimeUnit.HOURS.toMillis(1);
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage,
+                longDelayMillis, longDelayMillis));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ROLE_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        assertFalse(Files.exists(addressBookFilePath));
+
+        logic.execute(ExitCommand.COMMAND_WORD);
+        assertEquals(model.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_exitAfterBackgroundSaveFailed_savesBeforeReturning() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        boolean[] hasFailed = new boolean[1];
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookFilePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (!hasFailed[0]) {
+                    hasFailed[0] = true;
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage, 0, 0));
+        CountDownLatch failureReported = new CountDownLatch(1);
+        logic.setSaveFailureHandler(message -> failureReported.countDown());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ROLE_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        assertTrue(failureReported.await(10, TimeUnit.SECONDS));
+
+        logic.execute(ExitCommand.COMMAND_WORD);
+        assertEquals(model.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -125,6 +127,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -199,6 +206,21 @@ public class AddCommandTest {
         public void setAppointment(Appointment target, Appointment editedAppointment) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithKeyword(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Appointment> getAppointmentsWithKeyword(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
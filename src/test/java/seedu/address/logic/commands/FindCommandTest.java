@@ -18,7 +18,9 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -98,6 +100,18 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_personEditedAfterSearch_filteredListReflectsEdit() {
+        new FindCommand(preparePredicate("Kurz")).execute(model);
+
+        Person carlWithNewEmail = new PersonBuilder(CARL).withEmail("carl@example.com").build();
+        model.setPerson(CARL, carlWithNewEmail);
+        assertEquals(Arrays.asList(carlWithNewEmail), model.getFilteredPersonList());
+
+        model.setPerson(carlWithNewEmail, new PersonBuilder(carlWithNewEmail).withName("Carl Kurtz").build());
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -0,0 +1,103 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+public class ImportCommandTest {
+
+    private static final Path FILE_PATH = Paths.get("leads.csv");
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_newPersons_addsAllAndSummarises() {
+        ImportCommand importCommand = new ImportCommand(FILE_PATH, Map.of(3, BOB, 2, AMY), Map.of());
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPersons(List.of(AMY, BOB));
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, FILE_PATH);
+
+        assertCommandSuccess(importCommand, model, new CommandResult(expectedMessage, false, false, false, true),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_personAlreadyInModel_rejectsOnlyThatLine() {
+        ImportCommand importCommand = new ImportCommand(FILE_PATH, Map.of(2, AMY, 4, ALICE), Map.of(3, "Bad line"));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPersons(List.of(AMY));
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 1, FILE_PATH) + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_LINES, 2) + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_LINE, 3, "Bad line") + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_LINE, 4, Messages.MESSAGE_DUPLICATE_PERSON);
+
+        assertCommandSuccess(importCommand, model, new CommandResult(expectedMessage, false, false, false, true),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_manyRejectedLines_summarisesTheRest() {
+        Map<Integer, String> rejectionsByLine = new TreeMap<>();
+        for (int line = 1; line <= ImportCommand.MAX_REJECTED_LINES_SHOWN + 5; line++) {
+            rejectionsByLine.put(line, "Bad line");
+        }
+
+        CommandResult result = new ImportCommand(FILE_PATH, Map.of(), rejectionsByLine).execute(model);
+
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_REJECTED_LINES, 5)));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_REJECTED_LINE,
+                ImportCommand.MAX_REJECTED_LINES_SHOWN, "Bad line")));
+        assertFalse(feedback.contains(String.format(ImportCommand.MESSAGE_REJECTED_LINE,
+                ImportCommand.MAX_REJECTED_LINES_SHOWN + 1, "Bad line")));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void equals() {
+        Map<Integer, Person> personsByLine = Map.of(2, AMY);
+        ImportCommand importCommand = new ImportCommand(FILE_PATH, personsByLine, Map.of());
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(FILE_PATH, new TreeMap<>(personsByLine), Map.of())));
+
+        // different types -> returns false
+        assertFalse(importCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("other.csv"), personsByLine, Map.of())));
+
+        // different persons -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(FILE_PATH, Map.of(2, BOB), Map.of())));
+
+        // different rejections -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(FILE_PATH, personsByLine, Map.of(3, "Bad line"))));
+    }
+}
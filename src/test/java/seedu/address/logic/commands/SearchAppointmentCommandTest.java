@@ -7,6 +7,10 @@ import static seedu.address.logic.Messages.MESSAGE_APPOINTMENTS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Collections;
 
@@ -166,6 +170,20 @@ public class SearchAppointmentCommandTest {
         assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
     }
 
+    @Test
+    public void execute_timeFrameUpcomingWithFixedClock_todayAppointmentIncluded() {
+        // At the start of today, FIONA_BENSON_TODAY (today 00:01) is still upcoming
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+        Clock clock = Clock.fixed(startOfToday.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        String expectedMessage = String.format(MESSAGE_APPOINTMENTS_LISTED_OVERVIEW, 3);
+        AppointmentContainsKeywordsPredicate predicate = new AppointmentContainsKeywordsPredicate(
+                Collections.emptyList(), TimeFrame.UPCOMING);
+        SearchAppointmentCommand command = new SearchAppointmentCommand(predicate, clock);
+        expectedModel.updateFilteredAppointmentList(predicate.atTime(startOfToday));
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage, false, false, true, false);
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+    }
+
     @Test
     public void toStringMethod() {
         AppointmentContainsKeywordsPredicate predicate = new AppointmentContainsKeywordsPredicate(
@@ -0,0 +1,130 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.model.person.Phone;
+
+public class ImportCommandParserTest {
+
+    private static final String CSV_HEADER = "name,phone,email,role,address,propertyType,tags";
+    private static final String AMY_CSV = "Amy Bee,11111111,amy@example.com,buyer,\"Block 312, Amy Street 1\",HDB_4,"
+            + "friend";
+    private static final String BOB_CSV = "Bob Choo,22222222,bob@example.com,seller,\"Block 123, Bobby Street 3\",EC,"
+            + "husband;friend";
+    private static final String AMY_JSON = "{\"name\": \"Amy Bee\", \"phone\": 11111111, "
+            + "\"email\": \"amy@example.com\", \"role\": \"buyer\", \"address\": \"Block 312, Amy Street 1\", "
+            + "\"propertyType\": \"HDB_4\", \"tags\": [\"friend\"]}";
+
+    @TempDir
+    public Path testFolder;
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedFileType_throwsParseException() throws Exception {
+        Path filePath = writeFile("leads.txt", CSV_HEADER, AMY_CSV);
+        assertParseFailure(parser, filePath.toString(), ImportCommandParser.MESSAGE_UNSUPPORTED_FILE_TYPE);
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        assertParseFailure(parser, filePath.toString(),
+                String.format(ImportCommandParser.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void parse_csvWithColumnsInAnyOrder_success() throws Exception {
+        Path filePath = writeFile("leads.csv", "Phone, NAME ,email,role,address,propertyType,tags",
+                "11111111,Amy Bee,amy@example.com,buyer,\"Block 312, Amy Street 1\",HDB_4,friend",
+                "",
+                "22222222,\"Bob Choo\",bob@example.com,seller,\"Block 123, Bobby Street 3\",EC,husband;friend;");
+
+        assertParseSuccess(parser, " " + filePath + " ", new ImportCommand(filePath, Map.of(2, AMY, 4, BOB),
+                Map.of()));
+    }
+
+    @Test
+    public void parse_csvWithInvalidLines_rejectsOnlyThoseLines() throws Exception {
+        Path filePath = writeFile("leads.csv", CSV_HEADER,
+                AMY_CSV,
+                "Carl Kurz,911a,carl@example.com,buyer,wall street,HDB_3,",
+                "Daniel Meier,33333333,,seller,10th street,HDB_3,",
+                "Elle Meyer,44444444,elle@example.com,buyer",
+                "Fiona Kunz,55555555,fiona@example.com,buyer,\"little tokyo,HDB_3,",
+                "Amy Lee,11111111,amylee@example.com,buyer,tampines,HDB_3,",
+                BOB_CSV);
+
+        assertParseSuccess(parser, filePath.toString(), new ImportCommand(filePath, Map.of(2, AMY, 8, BOB), Map.of(
+                3, Phone.MESSAGE_CONSTRAINTS,
+                4, String.format(ImportCommandParser.MESSAGE_MISSING_VALUE, ImportCommandParser.COLUMN_EMAIL),
+                5, String.format(ImportCommandParser.MESSAGE_WRONG_VALUE_COUNT, 7, 4),
+                6, ImportCommandParser.MESSAGE_UNTERMINATED_QUOTE,
+                7, String.format(ImportCommandParser.MESSAGE_DUPLICATE_LINE, 2))));
+    }
+
+    @Test
+    public void parse_csvWithoutRequiredColumn_throwsParseException() throws Exception {
+        Path filePath = writeFile("leads.csv", "name,phone,role,address,tags", "Amy Bee,11111111,buyer,here,");
+        assertParseFailure(parser, filePath.toString(), String.format(ImportCommandParser.MESSAGE_MISSING_COLUMNS,
+                ImportCommandParser.COLUMN_EMAIL + ", " + ImportCommandParser.COLUMN_PROPERTY_TYPE));
+    }
+
+    @Test
+    public void parse_csvWithUnknownColumn_throwsParseException() throws Exception {
+        Path filePath = writeFile("leads.csv", CSV_HEADER + ",budget", AMY_CSV + ",500000");
+        assertParseFailure(parser, filePath.toString(),
+                String.format(ImportCommandParser.MESSAGE_UNKNOWN_COLUMN, "budget"));
+    }
+
+    @Test
+    public void parse_emptyCsv_throwsParseException() throws Exception {
+        Path filePath = writeFile("leads.csv");
+        assertParseFailure(parser, filePath.toString(), ImportCommandParser.MESSAGE_MISSING_HEADER);
+    }
+
+    @Test
+    public void parse_jsonLines_rejectsOnlyInvalidLines() throws Exception {
+        Path filePath = writeFile("leads.jsonl",
+                AMY_JSON,
+                "{\"name\": \"Bob Choo\", \"phone\": \"22222222\", \"email\": \"bob@example.com\", "
+                        + "\"role\": \"seller\", \"address\": \"Block 123, Bobby Street 3\", \"propertyType\": \"EC\", "
+                        + "\"tags\": [\"husband\", \"friend\"]}",
+                "[\"Carl Kurz\"]",
+                "{\"name\": \"Daniel Meier\", \"phone\": \"33333333\"}",
+                "{\"name\": \"Elle Meyer\", \"phone\": \"44444444\", \"email\": \"elle@example.com\", "
+                        + "\"role\": \"buyer\", \"address\": \"here\", \"propertyType\": \"HDB_3\", \"tags\": \"x\"}",
+                "{\"nickname\": \"Fi\"}");
+
+        assertParseSuccess(parser, filePath.toString(), new ImportCommand(filePath, Map.of(1, AMY, 2, BOB), Map.of(
+                3, ImportCommandParser.MESSAGE_INVALID_JSON,
+                4, String.format(ImportCommandParser.MESSAGE_MISSING_VALUE, ImportCommandParser.COLUMN_EMAIL),
+                5, String.format(ImportCommandParser.MESSAGE_INVALID_VALUE, ImportCommandParser.COLUMN_TAGS),
+                6, String.format(ImportCommandParser.MESSAGE_UNKNOWN_COLUMN, "nickname"))));
+    }
+
+    private Path writeFile(String fileName, String... lines) throws Exception {
+        Path filePath = testFolder.resolve(fileName);
+        Files.write(filePath, List.of(lines));
+        return filePath;
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class AddressBookChangeTest {
+
+    @Test
+    public void getChangesSince_earlierChange_returnsLaterChangesInOrder() {
+        AddressBookChange first = AddressBookChange.newHistory();
+        AddressBookChange second = AddressBookChange.ofAddedPersons(first, List.of(ALICE));
+        AddressBookChange third = AddressBookChange.ofRemovedPerson(second, ALICE, List.of());
+
+        assertEquals(List.of(second, third), third.getChangesSince(first).get());
+    }
+
+    @Test
+    public void getChangesSince_sameChange_returnsNoChanges() {
+        AddressBookChange change = AddressBookChange.ofAddedPersons(AddressBookChange.newHistory(), List.of(ALICE));
+        assertTrue(change.getChangesSince(change).get().isEmpty());
+    }
+
+    @Test
+    public void getChangesSince_changeFromOtherHistory_returnsEmpty() {
+        AddressBookChange change = AddressBookChange.ofAddedPersons(AddressBookChange.newHistory(), List.of(ALICE));
+        AddressBookChange otherChange = AddressBookChange.ofAddedPersons(AddressBookChange.newHistory(), List.of(BOB));
+        assertFalse(otherChange.getChangesSince(change).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_historyLongerThanMaximum_returnsEmpty() {
+        AddressBookChange first = AddressBookChange.newHistory();
+        AddressBookChange change = first;
+        for (int i = 1; i < AddressBookChange.MAX_HISTORY_LENGTH; i++) {
+            change = AddressBookChange.ofAddedPersons(change, List.of(ALICE));
+        }
+        assertEquals(AddressBookChange.MAX_HISTORY_LENGTH - 1, change.getChangesSince(first).get().size());
+
+        AddressBookChange nextChange = AddressBookChange.ofAddedPersons(change, List.of(ALICE));
+        assertFalse(nextChange.getChangesSince(first).isPresent());
+        assertFalse(nextChange.getChangesSince(change).isPresent());
+    }
+}
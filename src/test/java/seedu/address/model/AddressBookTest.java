@@ -2,12 +2,17 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PROPERTY_TYPE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -20,6 +25,8 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDatetime;
+import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
@@ -82,6 +89,93 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void findPerson_personInAddressBook_returnsPerson() {
+        addressBook.addPerson(ALICE);
+        assertEquals(ALICE, addressBook.findPerson(ALICE.getPhone().value));
+    }
+
+    @Test
+    public void findPerson_personNotInAddressBook_returnsNull() {
+        addressBook.addPerson(ALICE);
+        assertNull(addressBook.findPerson(BOB.getPhone().value));
+    }
+
+    @Test
+    public void getVersion_modifications_versionChanges() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+        assertNotEquals(initialVersion, versionAfterAdd);
+
+        // queries do not change the version
+        addressBook.hasPerson(ALICE);
+        addressBook.findPerson(ALICE.getStorageIdentifier());
+        assertEquals(versionAfterAdd, addressBook.getVersion());
+
+        addressBook.removePerson(ALICE);
+        assertNotEquals(versionAfterAdd, addressBook.getVersion());
+    }
+
+    @Test
+    public void getLastChange_modifications_recordsEachChange() {
+        AddressBookChange initialChange = addressBook.getLastChange();
+        addressBook.addPerson(ALICE);
+        AddressBookChange addChange = addressBook.getLastChange();
+        addressBook.removePerson(ALICE);
+        AddressBookChange removeChange = addressBook.getLastChange();
+
+        assertEquals(List.of(addChange, removeChange), removeChange.getChangesSince(initialChange).get());
+        assertEquals(List.of(ALICE), addChange.getAddedPersons());
+        assertEquals(List.of(ALICE), removeChange.getRemovedPersons());
+    }
+
+    @Test
+    public void setPerson_editedAppointmentsWouldBeDuplicates_leavesAddressBookUnchanged() {
+        AppointmentDatetime datetime = new AppointmentDatetime("2025-01-01T00:00");
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BOB);
+        addressBook.addAppointment(new Appointment(datetime, ALICE, BOB));
+        addressBook.addAppointment(new Appointment(datetime, renamedAlice, BOB));
+        AddressBook expectedAddressBook = new AddressBook(addressBook);
+        long version = addressBook.getVersion();
+        AddressBookChange lastChange = addressBook.getLastChange();
+
+        assertThrows(DuplicateAppointmentException.class, () -> addressBook.setPerson(ALICE, renamedAlice));
+        assertEquals(expectedAddressBook, addressBook);
+        assertEquals(version, addressBook.getVersion());
+        assertSame(lastChange, addressBook.getLastChange());
+    }
+
+    @Test
+    public void applyChange_changesOfAnotherAddressBook_sameData() {
+        AddressBook original = getTypicalAddressBook();
+        AddressBook copy = new AddressBook(original);
+        AddressBookChange copiedChange = original.getLastChange();
+        original.addPerson(BOB);
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Tan").build());
+        original.removePerson(BENSON);
+
+        original.getLastChange().getChangesSince(copiedChange).get().forEach(copy::applyChange);
+        assertEquals(original, copy);
+        assertSame(original.getLastChange(), copy.getLastChange());
+    }
+
+    @Test
+    public void getLastChange_personsReplaced_startsNewHistory() {
+        AddressBookChange initialChange = addressBook.getLastChange();
+        addressBook.setPersons(List.of(ALICE));
+        assertFalse(addressBook.getLastChange().getChangesSince(initialChange).isPresent());
+    }
+
+    @Test
+    public void resetData_addressBookWithRecordedChanges_sharesLastChange() {
+        AddressBook newData = getTypicalAddressBook();
+        addressBook.resetData(newData);
+        assertSame(newData.getLastChange(), addressBook.getLastChange());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
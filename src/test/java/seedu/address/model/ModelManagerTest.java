@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -14,6 +15,7 @@ import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentDatetime;
@@ -151,6 +153,27 @@ public class ModelManagerTest {
         assertTrue(appointmentList.contains(appointment3));
     }
 
+    @Test
+    public void getFilteredAppointmentList_addAppointments_staysSortedByDatetime() {
+        Person person1 = new PersonBuilder().withPhone("111").withRole(Role.SELLER).build();
+        Person person2 = new PersonBuilder().withPhone("222").withRole(Role.SELLER).build();
+        modelManager.addPerson(person1);
+        modelManager.addPerson(person2);
+
+        ObservableList<Appointment> filteredAppointmentList = modelManager.getFilteredAppointmentList();
+
+        Appointment appointment1 = new Appointment(new AppointmentDatetime("2025-01-15T10:00"), person1, person2);
+        Appointment appointment2 = new Appointment(new AppointmentDatetime("2025-01-10T14:00"), person2, person1);
+        Appointment appointment3 = new Appointment(new AppointmentDatetime("2025-01-20T09:00"), person2, person1);
+        modelManager.addAppointment(appointment1);
+        modelManager.addAppointment(appointment2);
+        modelManager.addAppointment(appointment3);
+
+        // the same view is returned on every call and is updated as appointments are added
+        assertSame(filteredAppointmentList, modelManager.getFilteredAppointmentList());
+        assertEquals(Arrays.asList(appointment2, appointment1, appointment3), filteredAppointmentList);
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
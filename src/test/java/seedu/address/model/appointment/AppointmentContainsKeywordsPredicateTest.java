@@ -9,12 +9,15 @@ import static seedu.address.testutil.TypicalAppointments.FIONA_BENSON_TODAY;
 import static seedu.address.testutil.TypicalAppointments.FIONA_ELLE_PAST;
 import static seedu.address.testutil.TypicalAppointments.GEORGE_ALICE_UPCOMING;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.AppointmentBuilder;
+
 public class AppointmentContainsKeywordsPredicateTest {
 
     @Test
@@ -152,6 +155,56 @@ public class AppointmentContainsKeywordsPredicateTest {
         assertFalse(predicate.test(futureAppointment));
     }
 
+    @Test
+    public void test_atTime_timeFrameMeasuredAgainstReferenceTime() {
+        Appointment appointment = new AppointmentBuilder().withAppointmentDatetime("2024-12-31T14:30").build();
+        AppointmentContainsKeywordsPredicate today =
+            new AppointmentContainsKeywordsPredicate(Collections.emptyList(), TimeFrame.TODAY);
+        AppointmentContainsKeywordsPredicate past =
+            new AppointmentContainsKeywordsPredicate(Collections.emptyList(), TimeFrame.PAST);
+        AppointmentContainsKeywordsPredicate upcoming =
+            new AppointmentContainsKeywordsPredicate(Collections.emptyList(), TimeFrame.UPCOMING);
+
+        // earlier on the same day
+        LocalDateTime morning = LocalDateTime.of(2024, 12, 31, 9, 0);
+        assertTrue(today.atTime(morning).test(appointment));
+        assertTrue(upcoming.atTime(morning).test(appointment));
+        assertFalse(past.atTime(morning).test(appointment));
+
+        // the next day
+        LocalDateTime nextDay = LocalDateTime.of(2025, 1, 1, 0, 0);
+        assertFalse(today.atTime(nextDay).test(appointment));
+        assertFalse(upcoming.atTime(nextDay).test(appointment));
+        assertTrue(past.atTime(nextDay).test(appointment));
+    }
+
+    @Test
+    public void test_atTime_boundsOfTimeFrameMatchTimeFrame() {
+        LocalDateTime referenceTime = LocalDateTime.of(2024, 12, 31, 9, 0);
+        Appointment startOfDay = new AppointmentBuilder().withAppointmentDatetime("2024-12-31T00:00").build();
+        Appointment atReferenceTime = new AppointmentBuilder().withAppointmentDatetime("2024-12-31T09:00").build();
+        Appointment nextDay = new AppointmentBuilder().withAppointmentDatetime("2025-01-01T00:00").build();
+
+        for (TimeFrame timeFrame : TimeFrame.values()) {
+            AppointmentContainsKeywordsPredicate predicate =
+                new AppointmentContainsKeywordsPredicate(Collections.emptyList(), timeFrame).atTime(referenceTime);
+            for (Appointment appointment : List.of(startOfDay, atReferenceTime, nextDay)) {
+                assertEquals(timeFrame.matches(appointment, referenceTime), predicate.test(appointment));
+            }
+        }
+    }
+
+    @Test
+    public void equals_atTime() {
+        AppointmentContainsKeywordsPredicate predicate =
+            new AppointmentContainsKeywordsPredicate(Collections.emptyList(), TimeFrame.TODAY);
+        LocalDateTime referenceTime = LocalDateTime.of(2024, 12, 31, 9, 0);
+
+        assertTrue(predicate.atTime(referenceTime).equals(predicate.atTime(referenceTime)));
+        assertFalse(predicate.atTime(referenceTime).equals(predicate));
+        assertFalse(predicate.atTime(referenceTime).equals(predicate.atTime(referenceTime.plusHours(1))));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
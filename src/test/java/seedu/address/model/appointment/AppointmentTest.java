@@ -19,6 +19,8 @@ import static seedu.address.testutil.TypicalPersons.GEORGE;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.PersonBuilder;
+
 public class AppointmentTest {
 
     @Test
@@ -98,6 +100,18 @@ public class AppointmentTest {
         assertEquals(appointment, newAppointment);
     }
 
+    @Test
+    public void hashCode_equalAppointments_sameHashCode() {
+        Appointment appointment = new Appointment(new AppointmentDatetime("2025-01-01T00:00"), BENSON, ALICE);
+        Appointment copy = new Appointment(new AppointmentDatetime("2025-01-01T00:00"),
+                new PersonBuilder(BENSON).build(), new PersonBuilder(ALICE).build());
+        assertEquals(appointment.hashCode(), copy.hashCode());
+
+        Appointment noBuyer = new Appointment(new AppointmentDatetime("2025-01-01T00:00"), BENSON);
+        assertEquals(noBuyer.hashCode(), new Appointment(new AppointmentDatetime("2025-01-01T00:00"), BENSON)
+                .hashCode());
+    }
+
     @Test
     public void equals() {
         AppointmentDatetime appointmentDatetime = new AppointmentDatetime("2025-01-01T00:00");
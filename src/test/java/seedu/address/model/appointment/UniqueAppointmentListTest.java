@@ -4,22 +4,33 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.CARL_ELLE_UPCOMING;
 import static seedu.address.testutil.TypicalAppointments.FIONA_DANIEL_PAST;
 import static seedu.address.testutil.TypicalAppointments.FIONA_ELLE_PAST;
+import static seedu.address.testutil.TypicalAppointments.FIONA_NOBUYER_PAST;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.DANIEL_EDITED;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.FIONA_EDITED;
 import static seedu.address.testutil.TypicalPersons.GEORGE;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class UniqueAppointmentListTest {
 
@@ -71,6 +82,18 @@ public class UniqueAppointmentListTest {
                 uniqueAppointmentList.setAppointments(expectedAppointmentList));
     }
 
+    @Test
+    public void set_listWithSeveralDuplicates_reportsEveryDuplicate() {
+        uniqueAppointmentList.add(FIONA_ELLE_PAST);
+        List<Appointment> appointmentList = List.of(FIONA_DANIEL_PAST, FIONA_NOBUYER_PAST, FIONA_DANIEL_PAST,
+                FIONA_NOBUYER_PAST);
+        String expectedMessage = "Operation would result in duplicate appointments: " + FIONA_DANIEL_PAST + "; "
+                + FIONA_NOBUYER_PAST;
+        assertThrows(DuplicateAppointmentException.class, expectedMessage, () ->
+                uniqueAppointmentList.setAppointments(appointmentList));
+        assertTrue(uniqueAppointmentList.contains(FIONA_ELLE_PAST));
+    }
+
     @Test
     public void updateAppointmentsWithPerson_updateBuyer_success() {
         AppointmentDatetime datetime = new AppointmentDatetime("2025-01-01T00:00");
@@ -80,7 +103,7 @@ public class UniqueAppointmentListTest {
         uniqueAppointmentList.add(fionaDaniel);
         UniqueAppointmentList expectedUniqueAppointmentList = new UniqueAppointmentList();
         expectedUniqueAppointmentList.add(fionaDanielEdited);
-        uniqueAppointmentList.updateAppointmentsWithEditedPerson(DANIEL, DANIEL_EDITED);
+        updateAppointmentsWithEditedPerson(DANIEL, DANIEL_EDITED);
         assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
     }
 
@@ -93,10 +116,31 @@ public class UniqueAppointmentListTest {
         uniqueAppointmentList.add(fionaDaniel);
         UniqueAppointmentList expectedUniqueAppointmentList = new UniqueAppointmentList();
         expectedUniqueAppointmentList.add(fionaEditedDaniel);
-        uniqueAppointmentList.updateAppointmentsWithEditedPerson(FIONA, FIONA_EDITED);
+        updateAppointmentsWithEditedPerson(FIONA, FIONA_EDITED);
         assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
     }
 
+    @Test
+    public void updateAppointmentsWithPerson_severalAppointments_replacesInPlaceAsOneChange() {
+        Appointment fionaDaniel = new Appointment(new AppointmentDatetime("2025-01-01T00:00"), FIONA, DANIEL);
+        Appointment georgeBenson = new Appointment(new AppointmentDatetime("2025-01-02T00:00"), GEORGE, BENSON);
+        Appointment bensonFiona = new Appointment(new AppointmentDatetime("2025-01-03T00:00"), BENSON, FIONA);
+        uniqueAppointmentList.add(fionaDaniel);
+        uniqueAppointmentList.add(georgeBenson);
+        uniqueAppointmentList.add(bensonFiona);
+        int[] changeCount = new int[1];
+        uniqueAppointmentList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Appointment>) change -> changeCount[0]++);
+
+        updateAppointmentsWithEditedPerson(FIONA, FIONA_EDITED);
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(List.of(fionaDaniel.updatedWithEditedPerson(FIONA, FIONA_EDITED), georgeBenson,
+                bensonFiona.updatedWithEditedPerson(FIONA, FIONA_EDITED)),
+                uniqueAppointmentList.asUnmodifiableObservableList());
+        assertEquals(2, uniqueAppointmentList.getAppointmentsWithPerson(FIONA_EDITED).size());
+    }
+
     @Test
     public void updateAppointmentsWithPerson_updateNone_success() {
         AppointmentDatetime datetime = new AppointmentDatetime("2025-01-01T00:00");
@@ -105,16 +149,115 @@ public class UniqueAppointmentListTest {
         uniqueAppointmentList.add(georgeBenson);
         UniqueAppointmentList expectedUniqueAppointmentList = new UniqueAppointmentList();
         expectedUniqueAppointmentList.add(georgeBenson);
-        uniqueAppointmentList.updateAppointmentsWithEditedPerson(FIONA, FIONA_EDITED);
+        updateAppointmentsWithEditedPerson(FIONA, FIONA_EDITED);
         assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
     }
 
     @Test
     public void updateAppointmentsWithPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () ->
-                uniqueAppointmentList.updateAppointmentsWithEditedPerson(null, FIONA_EDITED));
+                updateAppointmentsWithEditedPerson(null, FIONA_EDITED));
         assertThrows(NullPointerException.class, () ->
-                uniqueAppointmentList.updateAppointmentsWithEditedPerson(FIONA, null));
+                updateAppointmentsWithEditedPerson(FIONA, null));
+    }
+
+    @Test
+    public void updateAppointmentsWithPerson_updatePhone_reindexesAppointments() {
+        AppointmentDatetime datetime = new AppointmentDatetime("2025-01-01T00:00");
+        Person danielWithNewPhone = new PersonBuilder(DANIEL).withPhone("80000000").build();
+        Appointment fionaDaniel = new Appointment(datetime, FIONA, DANIEL);
+        Appointment fionaDanielWithNewPhone = new Appointment(datetime, FIONA, danielWithNewPhone);
+
+        uniqueAppointmentList.add(fionaDaniel);
+        updateAppointmentsWithEditedPerson(DANIEL, danielWithNewPhone);
+        assertEquals(List.of(), uniqueAppointmentList.getAppointmentsWithPerson(DANIEL));
+        assertEquals(List.of(fionaDanielWithNewPhone),
+                uniqueAppointmentList.getAppointmentsWithPerson(danielWithNewPhone));
+        assertTrue(uniqueAppointmentList.contains(fionaDanielWithNewPhone));
+        assertFalse(uniqueAppointmentList.contains(fionaDaniel));
+    }
+
+    @Test
+    public void getAppointmentsWithPerson_sellerAndBuyer_returnsMatchingAppointments() {
+        uniqueAppointmentList.add(FIONA_ELLE_PAST);
+        uniqueAppointmentList.add(FIONA_DANIEL_PAST);
+        uniqueAppointmentList.add(CARL_ELLE_UPCOMING);
+
+        Set<Appointment> expectedFionaAppointments = Set.of(FIONA_ELLE_PAST, FIONA_DANIEL_PAST);
+        assertEquals(expectedFionaAppointments, new HashSet<>(uniqueAppointmentList.getAppointmentsWithPerson(FIONA)));
+
+        Set<Appointment> expectedElleAppointments = Set.of(FIONA_ELLE_PAST, CARL_ELLE_UPCOMING);
+        assertEquals(expectedElleAppointments, new HashSet<>(uniqueAppointmentList.getAppointmentsWithPerson(ELLE)));
+
+        assertEquals(List.of(), uniqueAppointmentList.getAppointmentsWithPerson(GEORGE));
+    }
+
+    @Test
+    public void getAppointmentsWithPerson_personWithSameIdentityButDifferentFields_returnsEmptyList() {
+        uniqueAppointmentList.add(FIONA_DANIEL_PAST);
+        assertEquals(List.of(), uniqueAppointmentList.getAppointmentsWithPerson(DANIEL_EDITED));
+    }
+
+    @Test
+    public void removeAppointmentsWithPerson_personInAppointments_removesOnlyTheirAppointments() {
+        uniqueAppointmentList.add(FIONA_ELLE_PAST);
+        uniqueAppointmentList.add(FIONA_DANIEL_PAST);
+        uniqueAppointmentList.add(CARL_ELLE_UPCOMING);
+        uniqueAppointmentList.removeAppointmentsWithPerson(ELLE);
+
+        UniqueAppointmentList expectedUniqueAppointmentList = new UniqueAppointmentList();
+        expectedUniqueAppointmentList.add(FIONA_DANIEL_PAST);
+        assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
+        assertFalse(uniqueAppointmentList.contains(FIONA_ELLE_PAST));
+        assertEquals(List.of(FIONA_DANIEL_PAST), uniqueAppointmentList.getAppointmentsWithPerson(FIONA));
+    }
+
+    @Test
+    public void getAppointmentsBetween_inclusiveAndExclusiveBounds_returnsAppointmentsInChronologicalOrder() {
+        Appointment earliest = new Appointment(new AppointmentDatetime("2025-01-01T09:00"), FIONA, DANIEL);
+        Appointment middle = new Appointment(new AppointmentDatetime("2025-01-02T09:00"), FIONA, DANIEL);
+        Appointment alsoMiddle = new Appointment(new AppointmentDatetime("2025-01-02T09:00"), GEORGE, BENSON);
+        Appointment latest = new Appointment(new AppointmentDatetime("2025-01-03T09:00"), FIONA);
+        uniqueAppointmentList.add(latest);
+        uniqueAppointmentList.add(middle);
+        uniqueAppointmentList.add(earliest);
+        uniqueAppointmentList.add(alsoMiddle);
+
+        LocalDateTime start = earliest.getAppointmentDatetime().datetime;
+        LocalDateTime end = latest.getAppointmentDatetime().datetime;
+
+        List<Appointment> allAppointments =
+                List.copyOf(uniqueAppointmentList.getAppointmentsBetween(start, true, end, true));
+        assertEquals(4, allAppointments.size());
+        assertEquals(earliest, allAppointments.get(0));
+        assertEquals(Set.of(middle, alsoMiddle), new HashSet<>(allAppointments.subList(1, 3)));
+        assertEquals(latest, allAppointments.get(3));
+
+        Collection<Appointment> middleAppointments = uniqueAppointmentList.getAppointmentsBetween(start, false, end,
+                false);
+        assertEquals(Set.of(middle, alsoMiddle), new HashSet<>(middleAppointments));
+
+        assertTrue(uniqueAppointmentList.getAppointmentsBetween(end, true, start, true).isEmpty());
+    }
+
+    @Test
+    public void getAppointmentsBetween_removedAppointment_notReturned() {
+        uniqueAppointmentList.add(FIONA_DANIEL_PAST);
+        uniqueAppointmentList.remove(FIONA_DANIEL_PAST);
+        assertTrue(uniqueAppointmentList.getAppointmentsBetween(LocalDateTime.MIN, true,
+                LocalDateTime.MAX, true).isEmpty());
+    }
+
+    @Test
+    public void getAppointmentsBetween_laterChanges_reflectedInView() {
+        Collection<Appointment> allAppointments = uniqueAppointmentList.getAppointmentsBetween(LocalDateTime.MIN, true,
+                LocalDateTime.MAX, true);
+        uniqueAppointmentList.add(FIONA_DANIEL_PAST);
+
+        assertEquals(1, allAppointments.size());
+        assertTrue(allAppointments.contains(FIONA_DANIEL_PAST));
+        assertFalse(allAppointments.contains(FIONA_ELLE_PAST));
+        assertThrows(UnsupportedOperationException.class, () -> allAppointments.remove(FIONA_DANIEL_PAST));
     }
 
     @Test
@@ -135,6 +278,49 @@ public class UniqueAppointmentListTest {
         assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
     }
 
+    @Test
+    public void remove_afterEarlierAppointmentsRemoved_removesAppointment() {
+        uniqueAppointmentList.add(FIONA_ELLE_PAST);
+        uniqueAppointmentList.add(FIONA_DANIEL_PAST);
+        uniqueAppointmentList.add(FIONA_NOBUYER_PAST);
+        uniqueAppointmentList.add(CARL_ELLE_UPCOMING);
+        uniqueAppointmentList.removeAppointmentsWithPerson(ELLE);
+        Appointment replacement = new Appointment(new AppointmentDatetime("2025-01-01T00:00"), GEORGE, BENSON);
+        uniqueAppointmentList.setAppointment(FIONA_NOBUYER_PAST, replacement);
+        uniqueAppointmentList.remove(FIONA_DANIEL_PAST);
+
+        assertEquals(List.of(replacement), uniqueAppointmentList.asUnmodifiableObservableList());
+        uniqueAppointmentList.remove(replacement);
+        assertTrue(uniqueAppointmentList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void getAppointmentsWithKeyword_matchesSellerBuyerAndDatetime() {
+        uniqueAppointmentList.add(FIONA_ELLE_PAST);
+        uniqueAppointmentList.add(FIONA_NOBUYER_PAST);
+
+        assertEquals(Set.of(FIONA_ELLE_PAST, FIONA_NOBUYER_PAST),
+                uniqueAppointmentList.getAppointmentsWithKeyword("FIONA"));
+        assertEquals(Set.of(FIONA_ELLE_PAST), uniqueAppointmentList.getAppointmentsWithKeyword("meyer"));
+        assertEquals(Set.of(FIONA_ELLE_PAST),
+                uniqueAppointmentList.getAppointmentsWithKeyword(FIONA_ELLE_PAST.getAppointmentDatetime().toString()));
+        // buyer addresses are not searched
+        assertTrue(uniqueAppointmentList.getAppointmentsWithKeyword("michegan").isEmpty());
+    }
+
+    @Test
+    public void getAppointmentsWithKeyword_afterPersonEdited_reflectsChanges() {
+        uniqueAppointmentList.add(FIONA_ELLE_PAST);
+        Person renamedElle = new PersonBuilder(ELLE).withName("Ellen Meyer").build();
+        updateAppointmentsWithEditedPerson(ELLE, renamedElle);
+
+        assertTrue(uniqueAppointmentList.getAppointmentsWithKeyword("elle").isEmpty());
+        assertEquals(1, uniqueAppointmentList.getAppointmentsWithKeyword("ellen").size());
+
+        uniqueAppointmentList.removeAppointmentsWithPerson(FIONA);
+        assertTrue(uniqueAppointmentList.getAppointmentsWithKeyword("ellen").isEmpty());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -145,4 +331,9 @@ public class UniqueAppointmentListTest {
     public void toStringMethod() {
         assertEquals(uniqueAppointmentList.asUnmodifiableObservableList().toString(), uniqueAppointmentList.toString());
     }
+
+    private void updateAppointmentsWithEditedPerson(Person target, Person editedPerson) {
+        uniqueAppointmentList.setAppointments(
+                uniqueAppointmentList.getAppointmentsUpdatedWithEditedPerson(target, editedPerson));
+    }
 }
@@ -1,9 +1,13 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -59,4 +63,13 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void getKeywords() {
+        Name name = new Name("Alex  yeoh Alex");
+        assertEquals(Set.of("alex", "yeoh"), name.getKeywords());
+
+        // computed once
+        assertSame(name.getKeywords(), name.getKeywords());
+    }
 }
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -73,6 +74,18 @@ public class PersonContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
     }
 
+    @Test
+    public void test_withIndex_answersFromIndex() {
+        Person alice = new PersonBuilder().withName("Alice").build();
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(Arrays.asList("Carol", "Bob"))
+                .withIndex(keyword -> keyword.equals("bob") ? Set.of(alice) : Set.of());
+        assertTrue(predicate.test(alice));
+        assertFalse(predicate.test(new PersonBuilder().withName("Bob").build()));
+
+        // the index does not affect equality
+        assertEquals(new PersonContainsKeywordsPredicate(Arrays.asList("Carol", "Bob")), predicate);
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -14,8 +15,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -26,6 +33,27 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void hashCode_equalPersons_sameHashCode() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertFalse(ALICE.equals(editedAlice));
+    }
+
+    @Test
+    public void getTags_iteratesInTagNameOrder() {
+        Person person = new PersonBuilder().withTags("zebra", "apple", "mango").build();
+        List<Tag> expectedTags = List.of(new Tag("apple"), new Tag("mango"), new Tag("zebra"));
+
+        assertEquals(expectedTags, new ArrayList<>(person.getTags()));
+        assertEquals(new HashSet<>(expectedTags), person.getTags());
+        assertEquals(new HashSet<>(expectedTags).hashCode(), person.getTags().hashCode());
+        assertTrue(person.getTags().contains(new Tag("mango")));
+        assertFalse(person.getTags().contains(new Tag("kiwi")));
+    }
+
     @Test
     public void hasSameIdentifier() {
         // same object -> returns true
@@ -119,6 +147,16 @@ public class PersonTest {
         assertEquals(expected, ALICE.toString());
     }
 
+    @Test
+    public void getKeywords() {
+        Person person = new PersonBuilder().withName("Alice Pauline").withPhone("94351253")
+                .withEmail("alice@example.com").withRole("buyer").withAddress("Jurong West", "HDB_2")
+                .withTags("friends").build();
+        assertEquals(Set.of("alice", "pauline", "94351253", "alice@example.com", "buyer", "jurong", "west",
+                "hdb_2", "friends"), person.getKeywords());
+        assertSame(person.getKeywords(), person.getKeywords());
+    }
+
     @Test
     public void containsKeyword() {
         // Use existing person from TypicalPersons
@@ -30,12 +30,16 @@ public class PhoneTest {
         assertFalse(Phone.isValidPhone("91")); // less than 3 numbers
         assertFalse(Phone.isValidPhone("phone")); // non-numeric
         assertFalse(Phone.isValidPhone("9011p041")); // alphabets within digits
+        assertFalse(Phone.isValidPhone("9\t1")); // other whitespace, less than 3 numbers
+        assertFalse(Phone.isValidPhone("9312\u00a01534")); // non-breaking space
 
         // valid phone numbers
         assertTrue(Phone.isValidPhone("911")); // exactly 3 numbers
         assertTrue(Phone.isValidPhone("93121534"));
         assertTrue(Phone.isValidPhone("124293842033123")); // long phone numbers
         assertTrue(Phone.isValidPhone("9312 1534")); // spaces within digits
+        assertTrue(Phone.isValidPhone("+65 (9312)-1534")); // symbols within digits
+        assertTrue(Phone.isValidPhone("9312\t1534")); // other whitespace within digits
     }
 
     @Test
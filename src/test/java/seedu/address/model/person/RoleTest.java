@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -20,6 +21,14 @@ public class RoleTest {
         assertThrows(IllegalArgumentException.class, () -> new Role(invalidRole));
     }
 
+    @Test
+    public void of_anyCase_returnsSharedRole() {
+        assertSame(Role.of("buyer"), Role.of("BUYER"));
+        assertSame(Role.of("seller"), Role.of("Seller"));
+        assertEquals(new Role("seller"), Role.of("seller"));
+        assertThrows(IllegalArgumentException.class, () -> Role.of("purchaser"));
+    }
+
     @Test
     public void isValidRole() {
         // null role
@@ -33,6 +42,9 @@ public class RoleTest {
         // invalid role
         assertFalse(Role.isValidRole("tester"));
         assertFalse(Role.isValidRole("middleman"));
+        assertFalse(Role.isValidRole(" buyer"));
+        assertFalse(Role.isValidRole("buyers"));
+        assertFalse(Role.isValidRole("\u017feller")); // non-ASCII letter that upper cases to 'S'
 
         // valid role
         assertTrue(Role.isValidRole("Buyer"));
@@ -57,6 +69,7 @@ public class RoleTest {
     public void isValidRoles() {
         assertTrue(new Role("Buyer").isBuyer());
         assertTrue(new Role("SELLER").isSeller());
+        assertEquals(Role.SELLER, new Role("SeLLeR").value);
     }
 
     @Test
@@ -2,17 +2,20 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PROPERTY_TYPE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -49,6 +52,42 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personReplacedByDifferentIdentity_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void findByStorageIdentifier_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE, uniquePersonList.findByStorageIdentifier(ALICE.getStorageIdentifier()));
+    }
+
+    @Test
+    public void findByStorageIdentifier_personNotInList_returnsNull() {
+        uniquePersonList.add(ALICE);
+        assertNull(uniquePersonList.findByStorageIdentifier(BOB.getStorageIdentifier()));
+        assertNull(uniquePersonList.findByStorageIdentifier(null));
+    }
+
+    @Test
+    public void findByStorageIdentifier_afterSetPersons_returnsReplacementPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertNull(uniquePersonList.findByStorageIdentifier(ALICE.getStorageIdentifier()));
+        assertEquals(BOB, uniquePersonList.findByStorageIdentifier(BOB.getStorageIdentifier()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -60,6 +99,27 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_addsInOrder() {
+        uniquePersonList.add(BOB);
+        uniquePersonList.addAll(Arrays.asList(BENSON, ALICE));
+
+        assertEquals(Arrays.asList(BOB, BENSON, ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(ALICE, uniquePersonList.findByStorageIdentifier(ALICE.getStorageIdentifier()));
+        assertEquals(Set.of(BENSON), uniquePersonList.getPersonsWithKeyword("owesmoney"));
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonExceptionAndLeavesListUnchanged() {
+        uniquePersonList.add(ALICE);
+        String expectedMessage = "Operation would result in duplicate persons: " + ALICE.getStorageIdentifier();
+        assertThrows(DuplicatePersonException.class, expectedMessage, () ->
+                uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -164,6 +224,49 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSeveralDuplicates_reportsEveryDuplicateAndLeavesListUnchanged() {
+        uniquePersonList.add(BOB);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BENSON, ALICE, BENSON, ALICE);
+        String expectedMessage = "Operation would result in duplicate persons: " + ALICE.getStorageIdentifier()
+                + ", " + BENSON.getStorageIdentifier();
+        assertThrows(DuplicatePersonException.class, expectedMessage, () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void getPersonsWithKeyword_matchesAnyFieldIgnoringCase() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+
+        assertEquals(Set.of(ALICE), uniquePersonList.getPersonsWithKeyword("aLiCe"));
+        assertEquals(Set.of(ALICE), uniquePersonList.getPersonsWithKeyword("94351253"));
+        assertEquals(Set.of(BENSON), uniquePersonList.getPersonsWithKeyword("owesmoney"));
+        assertEquals(Set.of(ALICE, BENSON), uniquePersonList.getPersonsWithKeyword("buyer"));
+        assertTrue(uniquePersonList.getPersonsWithKeyword("Jurong West").isEmpty());
+        assertTrue(uniquePersonList.getPersonsWithKeyword("Pauli").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithKeyword_afterEditAndRemove_reflectsChanges() {
+        uniquePersonList.add(ALICE);
+        Set<Person> withAlice = uniquePersonList.getPersonsWithKeyword("Alice");
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertTrue(withAlice.isEmpty());
+        assertEquals(Set.of(editedAlice), uniquePersonList.getPersonsWithKeyword("alicia"));
+
+        uniquePersonList.remove(editedAlice);
+        assertTrue(uniquePersonList.getPersonsWithKeyword("alicia").isEmpty());
+        assertTrue(uniquePersonList.getPersonsWithKeyword("pauline").isEmpty());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -2,6 +2,7 @@ package seedu.address.model.person.address;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -23,6 +24,13 @@ public class AddressTest {
     private static final String EMPTY_TYPE = "";
     private static final String SPACED_TYPE = "HDB 4";
 
+    @Test
+    public void addressTypeOf_anyCase_returnsSharedAddressType() {
+        assertSame(AddressType.of(VALID_TYPE), AddressType.of(LOWERCASE_TYPE));
+        assertEquals(new AddressType(VALID_TYPE), AddressType.of(VALID_TYPE));
+        assertThrows(IllegalArgumentException.class, () -> AddressType.of(INVALID_TYPE));
+    }
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new Address(null, VALID_PROPERTY_TYPE));
@@ -1,6 +1,9 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -19,6 +22,18 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_sameTagName_returnsSameInstance() {
+        assertSame(Tag.of("friend"), Tag.of("friend"));
+        assertEquals(new Tag("friend"), Tag.of("friend"));
+        assertNotSame(Tag.of("friend"), Tag.of("Friend"));
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("#friend"));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
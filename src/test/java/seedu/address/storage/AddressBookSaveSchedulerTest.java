@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AddressBookSaveSchedulerTest {
+
+    private static final long LONG_DELAY_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    @Test
+    public void constructor_negativeDelay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new AddressBookSaveScheduler(new RecordingStorage(), -1, 0));
+        assertThrows(IllegalArgumentException.class, () ->
+                new AddressBookSaveScheduler(new RecordingStorage(), 0, -1));
+    }
+
+    @Test
+    public void schedule_burstOfSaves_writesLatestOnce() throws Exception {
+        RecordingStorage storage = new RecordingStorage();
+        AddressBookSaveScheduler scheduler = new AddressBookSaveScheduler(storage, LONG_DELAY_MILLIS,
+                LONG_DELAY_MILLIS);
+        AddressBook latest = new AddressBook();
+        for (int i = 0; i < 10; i++) {
+            scheduler.schedule(new AddressBook());
+        }
+        scheduler.schedule(latest);
+
+        scheduler.flush();
+
+        assertEquals(1, storage.saved.size());
+        assertSame(latest, storage.saved.get(0));
+    }
+
+    @Test
+    public void schedule_maxLatencyReached_writesWithoutFlush() throws Exception {
+        CountDownLatch saved = new CountDownLatch(1);
+        RecordingStorage storage = new RecordingStorage() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                super.saveAddressBook(addressBook, filePath);
+                saved.countDown();
+            }
+        };
+        AddressBookSaveScheduler scheduler = new AddressBookSaveScheduler(storage, LONG_DELAY_MILLIS, 0);
+
+        scheduler.schedule(new AddressBook());
+
+        assertTrue(saved.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void flush_nothingScheduled_writesNothing() throws Exception {
+        RecordingStorage storage = new RecordingStorage();
+        new AddressBookSaveScheduler(storage, 0, 0).flush();
+        assertEquals(0, storage.saved.size());
+    }
+
+    @Test
+    public void flush_saveFails_throwsIoException() {
+        IOException failure = new IOException("dummy IO exception");
+        AddressBookSaveScheduler scheduler = new AddressBookSaveScheduler(new RecordingStorage() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        }, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+
+        scheduler.schedule(new AddressBook());
+
+        assertThrows(IOException.class, scheduler::flush);
+    }
+
+    @Test
+    public void schedule_backgroundSaveFails_reportsFailure() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        AddressBookSaveScheduler scheduler = new AddressBookSaveScheduler(new RecordingStorage() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        }, 0, 0);
+        CountDownLatch reported = new CountDownLatch(1);
+        List<IOException> failures = new ArrayList<>();
+        scheduler.setSaveFailureHandler(e -> {
+            failures.add(e);
+            reported.countDown();
+        });
+
+        scheduler.schedule(new AddressBook());
+
+        assertTrue(reported.await(10, TimeUnit.SECONDS));
+        assertSame(failure, failures.get(0));
+    }
+
+    @Test
+    public void flush_afterBackgroundSaveFails_retriesFailedAddressBook() throws Exception {
+        int[] attempts = new int[1];
+        RecordingStorage storage = new RecordingStorage() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (attempts[0]++ == 0) {
+                    throw new IOException("dummy IO exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        AddressBookSaveScheduler scheduler = new AddressBookSaveScheduler(storage, 0, 0);
+        CountDownLatch reported = new CountDownLatch(1);
+        scheduler.setSaveFailureHandler(e -> reported.countDown());
+        AddressBook addressBook = new AddressBook();
+
+        scheduler.schedule(addressBook);
+        assertTrue(reported.await(10, TimeUnit.SECONDS));
+        scheduler.flush();
+
+        assertEquals(List.of(addressBook), storage.saved);
+    }
+
+    @Test
+    public void flush_afterBackgroundSaveFails_throwsIoExceptionUntilSaved() throws Exception {
+        AddressBookSaveScheduler scheduler = new AddressBookSaveScheduler(new RecordingStorage() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw new IOException("dummy IO exception");
+            }
+        }, 0, 0);
+        CountDownLatch reported = new CountDownLatch(1);
+        scheduler.setSaveFailureHandler(e -> reported.countDown());
+
+        scheduler.schedule(new AddressBook());
+        assertTrue(reported.await(10, TimeUnit.SECONDS));
+
+        assertThrows(IOException.class, scheduler::flush);
+        assertThrows(IOException.class, scheduler::flush);
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the address books it is asked to save.
+     */
+    private static class RecordingStorage extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+
+        RecordingStorage() {
+            super(Paths.get("unused.json"));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saved.add(addressBook);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.tag.Tag;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isBinaryFile() {
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "ClientSquare.csqb")));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "ClientSquare.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.csqb")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("notBinary.csqb");
+        Files.writeString(filePath, "not binary format!");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.csqb");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_stringLongerThanFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("oversized.csqb");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        // the length of the first role follows the magic number, the format version and the role count
+        ByteBuffer.wrap(bytes).putInt(3 * Integer.BYTES, Integer.MAX_VALUE);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.csqb");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_sharedTags_sameTagInstance() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.csqb");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        Tag aliceFriends = readBack.getPersonList().get(0).getTags().iterator().next();
+        Tag bensonFriends = readBack.getPersonList().get(1).getTags().stream()
+                .filter(aliceFriends::equals).findFirst().get();
+        assertSame(aliceFriends, bensonFriends);
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameAddressBook() throws Exception {
+        Path jsonFile = testFolder.resolve("addressbook.json");
+        Path binaryFile = testFolder.resolve("addressbook.csqb");
+        Path convertedJsonFile = testFolder.resolve("converted.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(original);
+
+        AddressBookFormatConverter.convert(jsonFile, binaryFile);
+        AddressBookFormatConverter.convert(binaryFile, convertedJsonFile);
+
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryFile).readAddressBook().get()));
+        assertEquals(Files.readString(jsonFile), Files.readString(convertedJsonFile));
+    }
+
+    @Test
+    public void convert_missingSource_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> AddressBookFormatConverter.convert(
+                testFolder.resolve("missing.json"), testFolder.resolve("addressbook.csqb")));
+    }
+}
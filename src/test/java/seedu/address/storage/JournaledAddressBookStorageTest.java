@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveCompactionThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JournaledAddressBookStorage(testFolder.resolve("addressbook.json"), true, 0));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("addressbook.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_unknownSavedState_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_journalsChangesOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String snapshot = Files.readString(filePath);
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = new AddressBook(storage.readAddressBook().get());
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(1, Files.readString(storage.getJournalFilePath()).lines().filter(line -> !line.isBlank()).count());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personsReplaced_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        original.setAppointments(List.of());
+        original.setPersons(List.of(IDA));
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_personEditedWithAppointments_replaysEdit() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("81234567").build();
+        original.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_tornJournalEntry_ignoresEntry() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.writeString(storage.getJournalFilePath(), "\n{\"savedPersons\":[{\"name\":\"Ida",
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compactionThresholdReached_rewritesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true, 2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalLeftOver_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        JournaledAddressBookStorage restartedStorage = new JournaledAddressBookStorage(filePath);
+        restartedStorage.readAddressBook();
+        restartedStorage.awaitCompaction();
+
+        assertFalse(Files.exists(restartedStorage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshotThere() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("addressbook.json"));
+        Path otherFilePath = testFolder.resolve("other.json");
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+}
@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -86,6 +87,18 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_notPrettyPrinted_readBackSuccessfully() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
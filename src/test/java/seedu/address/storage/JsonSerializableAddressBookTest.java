@@ -2,15 +2,26 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentDatetime;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -21,6 +32,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
     private static final Path DUPLICATE_APPOINTMENT_FILE =
             TEST_DATA_FOLDER.resolve("duplicateAppointmentAddressBook.json");
+    private static final Path APPOINTMENTS_BEFORE_PERSONS_FILE =
+            TEST_DATA_FOLDER.resolve("appointmentsBeforePersonsAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -59,4 +72,92 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_morePersonsThanParallelThreshold_keepsOrder() throws Exception {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = getManyJsonAdaptedPersons();
+        AddressBook expectedAddressBook = new AddressBook();
+        for (JsonAdaptedPerson jsonAdaptedPerson : jsonAdaptedPersons) {
+            expectedAddressBook.addPerson(jsonAdaptedPerson.toModelType());
+        }
+
+        AddressBook addressBook = new JsonSerializableAddressBook(jsonAdaptedPersons, List.of()).toModelType();
+        assertEquals(expectedAddressBook.getPersonList(), addressBook.getPersonList());
+    }
+
+    @Test
+    public void toModelType_duplicateBeforeInvalidPerson_reportsDuplicate() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = getManyJsonAdaptedPersons();
+        jsonAdaptedPersons.set(1, jsonAdaptedPersons.get(0));
+        jsonAdaptedPersons.add(getInvalidJsonAdaptedPerson());
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonSerializableAddressBook(jsonAdaptedPersons, List.of()).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidBeforeDuplicatePerson_reportsInvalidPerson() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = getManyJsonAdaptedPersons();
+        jsonAdaptedPersons.add(jsonAdaptedPersons.get(0));
+        jsonAdaptedPersons.set(1, getInvalidJsonAdaptedPerson());
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                new JsonSerializableAddressBook(jsonAdaptedPersons, List.of()).toModelType());
+    }
+
+    @Test
+    public void readModelType_typicalPersonsFile_success() throws Exception {
+        AddressBook expectedAddressBook = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableAddressBook.class).get().toModelType();
+        assertEquals(expectedAddressBook, readModelType(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void readModelType_appointmentsBeforePersons_success() throws Exception {
+        AddressBook expectedAddressBook = new AddressBook();
+        expectedAddressBook.addPerson(ALICE);
+        expectedAddressBook.addPerson(CARL);
+        expectedAddressBook.addAppointment(new Appointment(new AppointmentDatetime("2025-01-01T12:00"), CARL, ALICE));
+        assertEquals(expectedAddressBook, readModelType(APPOINTMENTS_BEFORE_PERSONS_FILE));
+    }
+
+    @Test
+    public void readModelType_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readModelType(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void readModelType_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readModelType(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void readModelType_duplicateAppointments_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_APPOINTMENT, () ->
+                readModelType(DUPLICATE_APPOINTMENT_FILE));
+    }
+
+    /**
+     * Returns enough distinct persons to be converted in parallel.
+     */
+    private static List<JsonAdaptedPerson> getManyJsonAdaptedPersons() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = new ArrayList<>();
+        for (int i = 0; i < 2 * JsonSerializableAddressBook.PARALLEL_THRESHOLD; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i)).build();
+            jsonAdaptedPersons.add(new JsonAdaptedPerson(person));
+        }
+        return jsonAdaptedPersons;
+    }
+
+    private static JsonAdaptedPerson getInvalidJsonAdaptedPerson() {
+        return new JsonAdaptedPerson(" ", "99999999", PersonBuilder.DEFAULT_EMAIL, PersonBuilder.DEFAULT_ROLE,
+                PersonBuilder.DEFAULT_ADDRESS, PersonBuilder.DEFAULT_ADDRESS_TYPE, List.of());
+    }
+
+    private static AddressBook readModelType(Path filePath) throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return JsonSerializableAddressBook.readModelType(parser);
+        }
+    }
+
 }
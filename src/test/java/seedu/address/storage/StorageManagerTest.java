@@ -2,9 +2,14 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +19,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
 
 public class StorageManagerTest {
 
@@ -60,6 +66,42 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void scheduleSaveAddressBook_savedInBackground_savesStateWhenScheduled() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
+        long longDelayMillis = TimeUnit.HOURS.toMillis(1);
+        StorageManager backgroundStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), longDelayMillis, longDelayMillis);
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(original);
+
+        backgroundStorageManager.scheduleSaveAddressBook(original);
+        original.addPerson(HOON);
+        backgroundStorageManager.flushAddressBook();
+
+        assertEquals(expected, new AddressBook(backgroundStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void scheduleSaveAddressBook_changedSincePreviousSchedule_savesStateWhenScheduled() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
+        long longDelayMillis = TimeUnit.HOURS.toMillis(1);
+        StorageManager backgroundStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), longDelayMillis, longDelayMillis);
+        AddressBook original = getTypicalAddressBook();
+
+        backgroundStorageManager.scheduleSaveAddressBook(original);
+        original.addPerson(HOON);
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Tan").build());
+        original.removePerson(FIONA);
+        AddressBook expected = new AddressBook(original);
+        backgroundStorageManager.scheduleSaveAddressBook(original);
+        original.removePerson(BENSON);
+        backgroundStorageManager.flushAddressBook();
+
+        assertEquals(expected, new AddressBook(backgroundStorageManager.readAddressBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -10,7 +10,7 @@ import seedu.address.model.person.Role;
  */
 public class AppointmentBuilder {
 
-    public static final String DEFAULT_APPOINTMENT_DATETIME = "2024-12-31 14:30";
+    public static final String DEFAULT_APPOINTMENT_DATETIME = "2024-12-31T14:30";
     private AppointmentDatetime appointmentDatetime;
     private Person seller;
     private Person buyer;